@@ -0,0 +1,50 @@
+package com.bogdan.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Класс {@code BenchmarkRunner} точка входа набора бенчмарков.
+ * Принимает те же аргументы командной строки, что и {@code org.openjdk.jmh.Main}, и так же обрабатывает
+ * {@code -h}, {@code -l}, {@code -lp}, {@code -lprof} и {@code -lrf}: выводит справку или список и завершается,
+ * не запуская бенчмарки. При запуске всегда подключает {@link GCProfiler}, чтобы вместе со временем выполнения
+ * в отчет попадали скорость выделения памяти ({@code gc.alloc.rate.norm} - байт на операцию) и количество
+ * сборок мусора.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldListProfilers()) {
+            commandLine.listProfilers();
+            return;
+        }
+        if (commandLine.shouldListResultFormats()) {
+            commandLine.listResultFormats();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        if (commandLine.shouldListWithParams()) {
+            new Runner(commandLine).listWithParams(commandLine);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.ConcurrentArrayList;
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Смешанная нагрузка чтение/запись из нескольких потоков: три читателя (get по случайному индексу) и один
+ * писатель (set и добавление в конец) в одной группе. {@link ConcurrentArrayList} сравнивается с
+ * {@link CustomArrayList} под одной общей блокировкой - так списки защищаются сейчас.
+ * <p>
+ * Список возвращается к исходному размеру перед каждой итерацией, чтобы добавления писателя не копились.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class ConcurrentListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] values;
+    private ConcurrentArrayList<Integer> concurrentList;
+    private SimpleList<Integer> lockedList;
+
+    @Setup(Level.Iteration)
+    public void prepare() {
+        values = Distribution.RANDOM.generate(size);
+        concurrentList = new ConcurrentArrayList<>(size);
+        CustomArrayList<Integer> customList = new CustomArrayList<>(size);
+        for (Integer value : values) {
+            concurrentList.add(value);
+            customList.add(value);
+        }
+        lockedList = customList;
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(3)
+    public Integer concurrentRead() {
+        return concurrentList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(1)
+    public Object concurrentWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer value = values[random.nextInt(size)];
+        if (random.nextBoolean()) {
+            return concurrentList.set(random.nextInt(size), value);
+        }
+        return concurrentList.add(value);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public Integer lockedRead() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (lockedList) {
+            return lockedList.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Object lockedWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer value = values[random.nextInt(size)];
+        synchronized (lockedList) {
+            if (random.nextBoolean()) {
+                return lockedList.set(random.nextInt(size), value);
+            }
+            return lockedList.add(value);
+        }
+    }
+}
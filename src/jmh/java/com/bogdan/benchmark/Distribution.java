@@ -0,0 +1,72 @@
+package com.bogdan.benchmark;
+
+import java.util.Random;
+
+/**
+ * Вид входных данных для бенчмарков сортировки.
+ */
+public enum Distribution {
+    /**
+     * Случайные значения во всем диапазоне int.
+     */
+    RANDOM {
+        @Override
+        Integer[] generate(int size, Random random) {
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt();
+            }
+            return data;
+        }
+    },
+    /**
+     * Уже отсортированные по возрастанию значения.
+     */
+    SORTED {
+        @Override
+        Integer[] generate(int size, Random random) {
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = i;
+            }
+            return data;
+        }
+    },
+    /**
+     * Значения, отсортированные по убыванию.
+     */
+    REVERSED {
+        @Override
+        Integer[] generate(int size, Random random) {
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = size - i;
+            }
+            return data;
+        }
+    },
+    /**
+     * Случайные значения из небольшого набора (16 различных), много повторов.
+     */
+    DUPLICATES {
+        @Override
+        Integer[] generate(int size, Random random) {
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(16);
+            }
+            return data;
+        }
+    };
+
+    /**
+     * Фиксированное зерно генератора, чтобы прогоны были воспроизводимыми.
+     */
+    static final long SEED = 42L;
+
+    abstract Integer[] generate(int size, Random random);
+
+    Integer[] generate(int size) {
+        return generate(size, new Random(SEED));
+    }
+}
@@ -0,0 +1,103 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.GapBufferList;
+import com.bogdan.list.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link GapBufferList} и {@link CustomArrayList} на трассе правок рядом с курсором.
+ * Курсор делает случайные шаги не дальше {@code cursorStep} позиций, в текущей позиции выполняется вставка или
+ * удаление. Трасса строится заранее и в сумме не меняет размер списка, поэтому каждый вызов применяет одну и ту же
+ * трассу к списку размера {@code size}. Время указывается на всю трассу из {@link #TRACE_LENGTH} правок.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EditTraceBenchmark {
+
+    private static final int TRACE_LENGTH = 10_000;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"16"})
+    private int cursorStep;
+
+    @Param({"gap", "custom"})
+    private String listName;
+
+    /**
+     * Позиции правок; неотрицательная - вставка перед позицией, отрицательная (~position) - удаление.
+     */
+    private int[] trace;
+    private SimpleList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        Random random = new Random(Distribution.SEED);
+        trace = new int[TRACE_LENGTH];
+        int currentSize = size;
+        int cursor = size / 2;
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            int remaining = TRACE_LENGTH - i;
+            boolean insert;
+            if (currentSize - size >= remaining) {
+                insert = false;
+            } else if (size - currentSize >= remaining) {
+                insert = true;
+            } else {
+                insert = random.nextBoolean();
+            }
+            cursor += random.nextInt(2 * cursorStep + 1) - cursorStep;
+            cursor = Math.max(0, Math.min(cursor, insert ? currentSize : currentSize - 1));
+            if (insert) {
+                trace[i] = cursor;
+                currentSize++;
+            } else {
+                trace[i] = ~cursor;
+                currentSize--;
+            }
+        }
+
+        list = switch (listName) {
+            case "gap" -> new GapBufferList<>();
+            case "custom" -> new CustomArrayList<>();
+            default -> throw new IllegalArgumentException("Unknown list: " + listName);
+        };
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public SimpleList<Integer> applyTrace() {
+        final SimpleList<Integer> target = list;
+        final Integer value = 42;
+        for (int position : trace) {
+            if (position >= 0) {
+                target.add(position, value);
+            } else {
+                target.remove(~position);
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,190 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки основных операций {@link CustomArrayList} в сравнении с {@link ArrayList}.
+ * Каждая пара методов {@code custom*}/{@code jdk*} выполняет одинаковую работу над списком из {@code size} элементов,
+ * поэтому результаты можно сравнивать напрямую. Изменяющие бенчмарки получают свежие списки перед каждым вызовом
+ * ({@link Refilled}), читающие - один раз на прогон ({@link Filled}), чтобы подготовка не попадала в замер памяти.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListBenchmark {
+
+    /**
+     * Количество операций вставки/удаления по индексу за один вызов бенчмарка.
+     */
+    private static final int BATCH = 100;
+
+    /**
+     * Исходные данные: значения и случайные индексы в пределах размера списка.
+     */
+    @State(Scope.Thread)
+    public static class Data {
+        @Param({"1000", "100000"})
+        int size;
+
+        Integer[] values;
+        int[] randomIndexes;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            Random random = new Random(Distribution.SEED);
+            values = new Integer[size];
+            randomIndexes = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = i;
+                randomIndexes[i] = random.nextInt(size);
+            }
+        }
+    }
+
+    /**
+     * Заполненные списки для операций чтения, создаются один раз на прогон.
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+        CustomArrayList<Integer> customList;
+        List<Integer> jdkList;
+
+        @Setup(Level.Trial)
+        public void fill(Data data) {
+            customList = new CustomArrayList<>();
+            jdkList = new ArrayList<>();
+            for (Integer value : data.values) {
+                customList.add(value);
+                jdkList.add(value);
+            }
+        }
+    }
+
+    /**
+     * Заполненные списки для изменяющих операций, пересоздаются перед каждым вызовом.
+     */
+    @State(Scope.Thread)
+    public static class Refilled extends Filled {
+        @Override
+        @Setup(Level.Invocation)
+        public void fill(Data data) {
+            super.fill(data);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customAdd(Data data) {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (Integer value : data.values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> jdkAdd(Data data) {
+        List<Integer> list = new ArrayList<>();
+        for (Integer value : data.values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customAddByIndex(Data data, Refilled lists) {
+        for (int i = 0; i < BATCH; i++) {
+            lists.customList.add(data.randomIndexes[i], data.values[i]);
+        }
+        return lists.customList;
+    }
+
+    @Benchmark
+    public List<Integer> jdkAddByIndex(Data data, Refilled lists) {
+        for (int i = 0; i < BATCH; i++) {
+            lists.jdkList.add(data.randomIndexes[i], data.values[i]);
+        }
+        return lists.jdkList;
+    }
+
+    @Benchmark
+    public void customGet(Data data, Filled lists, Blackhole blackhole) {
+        for (int index : data.randomIndexes) {
+            blackhole.consume(lists.customList.get(index));
+        }
+    }
+
+    @Benchmark
+    public void jdkGet(Data data, Filled lists, Blackhole blackhole) {
+        for (int index : data.randomIndexes) {
+            blackhole.consume(lists.jdkList.get(index));
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customRemoveByIndex(Data data, Refilled lists) {
+        CustomArrayList<Integer> list = lists.customList;
+        for (int i = 0; i < BATCH; i++) {
+            list.remove(data.randomIndexes[i] % list.size());
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> jdkRemoveByIndex(Data data, Refilled lists) {
+        List<Integer> list = lists.jdkList;
+        for (int i = 0; i < BATCH; i++) {
+            list.remove(data.randomIndexes[i] % list.size());
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customRemoveByElement(Data data, Refilled lists) {
+        for (int i = 0; i < BATCH; i++) {
+            lists.customList.remove(data.values[data.randomIndexes[i]]);
+        }
+        return lists.customList;
+    }
+
+    @Benchmark
+    public List<Integer> jdkRemoveByElement(Data data, Refilled lists) {
+        for (int i = 0; i < BATCH; i++) {
+            lists.jdkList.remove(data.values[data.randomIndexes[i]]);
+        }
+        return lists.jdkList;
+    }
+
+    @Benchmark
+    public void customIterate(Filled lists, Blackhole blackhole) {
+        for (Integer value : lists.customList) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Filled lists, Blackhole blackhole) {
+        for (Integer value : lists.jdkList) {
+            blackhole.consume(value);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.sorting.ParallelQuickSorter;
+import com.bogdan.sorting.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабируемость {@link ParallelQuickSorter} по числу потоков: одна и та же сортировка выполняется в пулах
+ * разной параллельности. Значения {@code parallelism} больше числа ядер машины смысла не имеют, их удобно
+ * ограничивать через {@code -p parallelism=1,2,4}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g"})
+@State(Scope.Thread)
+public class ParallelSortBenchmark {
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    @Param({"RANDOM"})
+    private Distribution distribution;
+
+    private Integer[] source;
+    private ForkJoinPool pool;
+    private Sorter sorter;
+    private CustomArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        source = distribution.generate(size);
+        pool = new ForkJoinPool(parallelism);
+        sorter = new ParallelQuickSorter(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        list = new CustomArrayList<>(Arrays.asList(source));
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> sort() {
+        sorter.sort(list, Comparator.naturalOrder());
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск и агрегаты {@link IntArrayList} на векторных и скалярных ядрах. Реализация выбирается один раз при
+ * запуске JVM, поэтому каждый вариант идет в своем форке: *Vector - с модулем {@code jdk.incubator.vector},
+ * *Scalar - без него. Искомое значение отсутствует в списке, чтобы indexOf проходил его целиком.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class PrimitiveScanBenchmark {
+    private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private IntArrayList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        list = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(1_000_000));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int indexOfVector() {
+        return list.indexOf(-1);
+    }
+
+    @Benchmark
+    @Fork(2)
+    public int indexOfScalar() {
+        return list.indexOf(-1);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int countVector() {
+        return list.count(7);
+    }
+
+    @Benchmark
+    @Fork(2)
+    public int countScalar() {
+        return list.count(7);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int maxVector() {
+        return list.max();
+    }
+
+    @Benchmark
+    @Fork(2)
+    public int maxScalar() {
+        return list.max();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public long sumVector() {
+        return list.sum();
+    }
+
+    @Benchmark
+    @Fork(2)
+    public long sumScalar() {
+        return list.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.sorting.QuickSorter;
+import com.bogdan.sorting.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк {@link QuickSorter} на тех же видах входных данных, что и {@link SortBenchmark}. Последний элемент
+ * в качестве опорного дает O(n²) сравнений и глубину рекурсии n на {@code SORTED}/{@code REVERSED}/{@code DUPLICATES},
+ * поэтому размеры ограничены 100000 - на них прогон с прогревом и двумя форками завершается за минуты.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xss64m", "-Xmx4g"})
+@State(Scope.Thread)
+public class QuickSortBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private Distribution distribution;
+
+    private Integer[] source;
+    private Sorter sorter;
+    private CustomArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        source = distribution.generate(size);
+        sorter = new QuickSorter();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        list = new CustomArrayList<>(Arrays.asList(source));
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> sort() {
+        sorter.sort(list, Comparator.naturalOrder());
+        return list;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.IntArrayList;
+import com.bogdan.sorting.IntroSorter;
+import com.bogdan.sorting.PrimitiveSorter;
+import com.bogdan.sorting.RadixSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поразрядная сортировка {@link RadixSorter} против сортировок сравнением: по int-ключу элементов
+ * {@link CustomArrayList} и по значениям {@link IntArrayList}. Экземпляр RadixSorter общий на весь прогон,
+ * поэтому его буферы выделяются один раз, как при повторных сортировках в приложении.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class RadixSortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    private Distribution distribution;
+
+    private Integer[] source;
+    private int[] primitiveSource;
+    private final RadixSorter radixSorter = new RadixSorter();
+    private CustomArrayList<Integer> list;
+    private IntArrayList intList;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        source = distribution.generate(size);
+        primitiveSource = Arrays.stream(source).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        list = new CustomArrayList<>(Arrays.asList(source));
+        intList = new IntArrayList(primitiveSource);
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> radixByKey() {
+        radixSorter.sortByInt(list, Integer::intValue);
+        return list;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> introByComparator() {
+        new IntroSorter().sort(list, Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList radixPrimitive() {
+        radixSorter.sort(intList);
+        return intList;
+    }
+
+    @Benchmark
+    public IntArrayList introPrimitive() {
+        new PrimitiveSorter().sort(intList);
+        return intList;
+    }
+}
@@ -0,0 +1,67 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.sorting.QuickSorter;
+import com.bogdan.sorting.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сортировки {@link CustomArrayList} реализациями {@link Sorter} на разных видах входных данных.
+ * Перед каждым вызовом список заполняется заново из исходного массива, поэтому каждый вызов сортирует одни и те же
+ * неотсортированные данные. {@link QuickSorter} на {@code SORTED}/{@code REVERSED}/{@code DUPLICATES} работает
+ * за O(n²) и на миллионах элементов не завершается за разумное время, поэтому он вынесен в
+ * {@link QuickSortBenchmark} с размерами не больше 100000, а полный набор параметров здесь выполняется целиком.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xss64m", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private Distribution distribution;
+
+    @Param({"intro", "parallel", "tim"})
+    private String sorterName;
+
+    private Integer[] source;
+    private Sorter sorter;
+    private CustomArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        source = distribution.generate(size);
+        sorter = Sorters.byName(sorterName);
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        list = new CustomArrayList<>(Arrays.asList(source));
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> sort() {
+        sorter.sort(list, Comparator.naturalOrder());
+        return list;
+    }
+}
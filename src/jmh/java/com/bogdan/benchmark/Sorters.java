@@ -0,0 +1,26 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.sorting.IntroSorter;
+import com.bogdan.sorting.ParallelQuickSorter;
+import com.bogdan.sorting.QuickSorter;
+import com.bogdan.sorting.Sorter;
+import com.bogdan.sorting.TimSorter;
+
+/**
+ * Соответствие имен из параметров бенчмарков реализациям {@link Sorter}.
+ */
+final class Sorters {
+
+    private Sorters() {
+    }
+
+    static Sorter byName(String name) {
+        return switch (name) {
+            case "quick" -> new QuickSorter();
+            case "intro" -> new IntroSorter();
+            case "parallel" -> new ParallelQuickSorter();
+            case "tim" -> new TimSorter();
+            default -> throw new IllegalArgumentException("Unknown sorter: " + name);
+        };
+    }
+}
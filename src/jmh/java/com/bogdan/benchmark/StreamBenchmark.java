@@ -0,0 +1,60 @@
+package com.bogdan.benchmark;
+
+import com.bogdan.list.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Агрегация через последовательные и параллельные потоки над {@link CustomArrayList} и {@link ArrayList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private CustomArrayList<Integer> customList;
+    private List<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        List<Integer> values = Arrays.asList(Distribution.RANDOM.generate(size));
+        customList = new CustomArrayList<>(values);
+        jdkList = new ArrayList<>(values);
+    }
+
+    @Benchmark
+    public long customSequentialSum() {
+        return customList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long customParallelSum() {
+        return customList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelSum() {
+        return jdkList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
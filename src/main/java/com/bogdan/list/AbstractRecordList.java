@@ -0,0 +1,443 @@
+package com.bogdan.list;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Общая часть списков, хранящих элементы фиксированной длины в виде записей {@link RecordCodec} в блоках
+ * ByteBuffer одинакового размера. В блоке 2^k записей, запись с индексом i лежит в блоке {@code i >>> shift}
+ * по смещению {@code (i & mask) * recordSize}. Вставка и удаление в середине сдвигают записи хвоста через
+ * небольшой байтовый буфер (не больше {@value #SCRATCH_BYTES} байт) порциями, переносящий по одной записи на
+ * границах блоков, поэтому в куче не держится буфер размером с блок. {@link #removeRange(int, int)} и
+ * {@link #removeIf(Predicate)} сдвигают хвост один раз, независимо от числа удаляемых записей.
+ * <p>
+ * Наследник решает, откуда берутся блоки ({@link #newChunk(int)}), и может сохранять размер списка при каждом
+ * его изменении ({@link #sizeChanged()}).
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+abstract class AbstractRecordList<T> implements SimpleList<T> {
+    private static final ByteBuffer[] NO_CHUNKS = {};
+    /**
+     * Наибольший размер буфера для перемещения записей.
+     */
+    static final int SCRATCH_BYTES = 1 << 14;
+
+    final RecordCodec<T> codec;
+    final int recordSize;
+    final int chunkShift;
+    final int chunkMask;
+    private final int chunkBytes;
+    /**
+     * Буфер для перемещения записей внутри блока и между блоками, не больше {@link #SCRATCH_BYTES}
+     */
+    private final byte[] scratch;
+    ByteBuffer[] chunks = new ByteBuffer[4];
+    int chunkCount;
+    int size;
+    private boolean closed;
+
+    /**
+     * @param codec - кодек элементов фиксированной длины
+     * @param chunkBytes - целевой размер блока в байтах; в блок помещается наибольшая степень двойки записей,
+     *                   умещающаяся в этот размер, но не меньше одной записи
+     */
+    AbstractRecordList(RecordCodec<T> codec, int chunkBytes) {
+        this.codec = Objects.requireNonNull(codec);
+        this.recordSize = codec.recordSize();
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("Illegal record size: " + recordSize);
+        }
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkBytes);
+        }
+        int recordsPerChunk = Integer.highestOneBit(Math.max(1, chunkBytes / recordSize));
+        this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        this.chunkMask = recordsPerChunk - 1;
+        this.chunkBytes = recordsPerChunk * recordSize;
+        this.scratch = new byte[Math.min(SCRATCH_BYTES, chunkBytes)];
+    }
+
+    /**
+     * Создает блок под записи с индексами от {@code chunkIndex << chunkShift}.
+     * @param chunkIndex - номер блока
+     * @return буфер из {@link #chunkBytes()} байт
+     */
+    abstract ByteBuffer newChunk(int chunkIndex);
+
+    /**
+     * Освобождает блок, на который у списка больше нет ссылок: при {@link #trimToSize()} и {@link #release()}.
+     * По умолчанию ничего не делает, и блок освобождается сборщиком мусора.
+     * @param chunk - освобождаемый блок
+     */
+    void freeChunk(ByteBuffer chunk) {
+    }
+
+    /**
+     * Вызывается после каждого изменения размера списка.
+     */
+    void sizeChanged() {
+    }
+
+    /**
+     * @return размер блока в байтах
+     */
+    final int chunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * Метод для получения емкости списка - количества записей в выделенных блоках.
+     * @return количество элементов, которое поместится без выделения новых блоков
+     */
+    public long getCapacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Возвращает объем памяти, занятый блоками.
+     * @return количество байт во всех выделенных блоках
+     */
+    public long getAllocatedBytes() {
+        return getCapacity() * recordSize;
+    }
+
+    /**
+     * Кодирует элемент и добавляет запись в конец списка.
+     * @param element - элемент который добавляют в список.
+     * @return true если элемент успешно добавлен
+     */
+    @Override
+    public boolean add(T element) {
+        ensureCapacity(size + 1);
+        codec.write(chunks[size >>> chunkShift], offset(size), element);
+        size++;
+        sizeChanged();
+        return true;
+    }
+
+    /**
+     * Вставляет запись по индексу, сдвигая записи хвоста на одну позицию.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+        ensureCapacity(size + 1);
+        final int firstChunk = index >>> chunkShift;
+        final int lastChunk = size >>> chunkShift;
+        for (int c = lastChunk; c >= firstChunk; c--) {
+            int start = c == firstChunk ? index & chunkMask : 0;
+            int end;
+            if (c == lastChunk) {
+                end = size & chunkMask;
+            } else {
+                copyRecord(chunks[c], chunkMask, chunks[c + 1], 0);
+                end = chunkMask;
+            }
+            moveRecords(chunks[c], start, start + 1, end - start);
+        }
+        codec.write(chunks[firstChunk], offset(index), element);
+        size++;
+        sizeChanged();
+    }
+
+    /**
+     * Кодирует элемент в запись по индексу.
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return элемент, декодированный из записи до замены
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T set(int index, T element) {
+        checkRange(index);
+        ByteBuffer chunk = chunks[index >>> chunkShift];
+        T oldValue = codec.read(chunk, offset(index));
+        codec.write(chunk, offset(index), element);
+        return oldValue;
+    }
+
+    /**
+     * Декодирует элемент из записи по индексу.
+     * @param index - позиция элемента
+     * @return новый объект, прочитанный из записи
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T get(int index) {
+        checkRange(index);
+        return codec.read(chunks[index >>> chunkShift], offset(index));
+    }
+
+    /**
+     * Удаляет первую запись, декодированное значение которой равно элементу.
+     * @param element - элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    @Override
+    public boolean remove(T element) {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, codec.read(chunks[i >>> chunkShift], offset(i)))) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет запись по индексу, сдвигая записи хвоста.
+     * @param index - позиция удаляемого элемента
+     * @return элемент, декодированный из удаленной записи
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T remove(int index) {
+        checkRange(index);
+        T oldValue = get(index);
+        removeAt(index);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет записи с индексами из диапазона [fromIndex, toIndex) одним сдвигом хвоста: записи копируются
+     * отрезками, не пересекающими границ блоков, за O(n - fromIndex) независимо от длины диапазона.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        moveDown(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        sizeChanged();
+    }
+
+    /**
+     * Удаляет все записи, декодированные значения которых удовлетворяют условию, за один проход: оставшиеся
+     * записи копируются к началу по мере обхода. Если условие выбросит исключение, непроверенные записи
+     * сохраняются, а список остается согласованным.
+     * @param filter условие удаления
+     * @return true если была удалена хотя бы одна запись
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        checkOpen();
+        final int end = size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < end; read++) {
+                if (!filter.test(codec.read(chunks[read >>> chunkShift], offset(read)))) {
+                    if (write != read) {
+                        copyRecord(chunks[read >>> chunkShift], read & chunkMask,
+                                chunks[write >>> chunkShift], write & chunkMask);
+                    }
+                    write++;
+                }
+            }
+        } finally {
+            if (read != end) {
+                moveDown(read, write, end - read);
+                write += end - read;
+            }
+            size = write;
+            sizeChanged();
+        }
+        return write != end;
+    }
+
+    /**
+     * Удаляет все элементы; выделенные блоки сохраняются для повторного использования.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+        sizeChanged();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Освобождает блоки, не содержащие записей.
+     */
+    @Override
+    public void trimToSize() {
+        checkOpen();
+        int usedChunks = (size + chunkMask) >>> chunkShift;
+        ByteBuffer[] unused = Arrays.copyOfRange(chunks, usedChunks, chunkCount);
+        Arrays.fill(chunks, usedChunks, chunkCount, null);
+        chunkCount = usedChunks;
+        chunks = Arrays.copyOf(chunks, usedChunks);
+        for (ByteBuffer chunk : unused) {
+            freeChunk(chunk);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new Iterator<>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = current++;
+                return codec.read(chunks[index >>> chunkShift], offset(index));
+            }
+        };
+    }
+
+    /**
+     * Освобождает все блоки через {@link #freeChunk(ByteBuffer)} и делает список непригодным для использования;
+     * любые операции после этого выбрасывают IllegalStateException.
+     */
+    final void release() {
+        ByteBuffer[] released = Arrays.copyOf(chunks, chunkCount);
+        chunks = NO_CHUNKS;
+        chunkCount = 0;
+        size = 0;
+        closed = true;
+        for (ByteBuffer chunk : released) {
+            freeChunk(chunk);
+        }
+    }
+
+    final boolean isClosed() {
+        return closed;
+    }
+
+    final void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void removeAt(int index) {
+        final int firstChunk = index >>> chunkShift;
+        final int lastIndex = size - 1;
+        final int lastChunk = lastIndex >>> chunkShift;
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            int start = c == firstChunk ? index & chunkMask : 0;
+            if (c == lastChunk) {
+                moveRecords(chunks[c], start + 1, start, (lastIndex & chunkMask) - start);
+            } else {
+                moveRecords(chunks[c], start + 1, start, chunkMask - start);
+                copyRecord(chunks[c + 1], 0, chunks[c], chunkMask);
+            }
+        }
+        size = lastIndex;
+        sizeChanged();
+    }
+
+    /**
+     * Копирует count записей с индекса from на меньший индекс to отрезками, не пересекающими границ блоков.
+     */
+    private void moveDown(int from, int to, int count) {
+        int read = from;
+        int write = to;
+        final int end = from + count;
+        while (read < end) {
+            int records = Math.min(end - read,
+                    Math.min(chunkMask + 1 - (read & chunkMask), chunkMask + 1 - (write & chunkMask)));
+            copyBytes(chunks[read >>> chunkShift], offset(read), chunks[write >>> chunkShift], offset(write),
+                    records * recordSize);
+            read += records;
+            write += records;
+        }
+    }
+
+    private int offset(int index) {
+        return (index & chunkMask) * recordSize;
+    }
+
+    private void moveRecords(ByteBuffer chunk, int fromRecord, int toRecord, int count) {
+        if (count > 0) {
+            copyBytes(chunk, fromRecord * recordSize, chunk, toRecord * recordSize, count * recordSize);
+        }
+    }
+
+    private void copyRecord(ByteBuffer from, int fromRecord, ByteBuffer to, int toRecord) {
+        copyBytes(from, fromRecord * recordSize, to, toRecord * recordSize, recordSize);
+    }
+
+    /**
+     * Копирует length байт порциями размером со scratch. При сдвиге вправо внутри одного буфера диапазоны
+     * перекрываются, поэтому порции копируются с конца, иначе - с начала.
+     */
+    private void copyBytes(ByteBuffer from, int fromOffset, ByteBuffer to, int toOffset, int length) {
+        final int step = scratch.length;
+        if (from == to && toOffset > fromOffset) {
+            for (int remaining = length; remaining > 0; ) {
+                int bytes = Math.min(step, remaining);
+                remaining -= bytes;
+                from.get(fromOffset + remaining, scratch, 0, bytes);
+                to.put(toOffset + remaining, scratch, 0, bytes);
+            }
+        } else {
+            for (int done = 0; done < length; ) {
+                int bytes = Math.min(step, length - done);
+                from.get(fromOffset + done, scratch, 0, bytes);
+                to.put(toOffset + done, scratch, 0, bytes);
+                done += bytes;
+            }
+        }
+    }
+
+    final void ensureCapacity(long capacity) {
+        checkOpen();
+        if (capacity > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required list size is too large");
+        }
+        while (((long) chunkCount << chunkShift) < capacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, Capacities.newLength(chunkCount, 1, chunkCount >> 1));
+            }
+            chunks[chunkCount] = newChunk(chunkCount);
+            chunkCount++;
+        }
+    }
+
+    private void checkRange(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+}
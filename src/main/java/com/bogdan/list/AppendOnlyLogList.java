@@ -0,0 +1,302 @@
+package com.bogdan.list;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Неблокирующий список только для добавления в конец, рассчитанный на много одновременных писателей
+ * (например, виртуальных потоков, пишущих события в общий журнал).
+ * <p>
+ * Писатель резервирует ячейку атомарным {@code getAndIncrement} счетчика резервов, записывает элемент и
+ * продвигает опубликованную границу: граница переходит через каждую подряд заполненную ячейку, и это делает
+ * любой писатель, а не только владелец ячейки, поэтому медленный писатель не заставляет остальных ждать.
+ * Читатели видят только элементы ниже границы: {@link #size()} возвращает границу, и все элементы до нее
+ * полностью записаны.
+ * <p>
+ * Хранилище разбито на сегменты, каждый следующий вдвое больше предыдущего (первый - 32 ячейки), так что
+ * индекс переводится в сегмент и смещение несколькими битовыми операциями, а при росте ничего не копируется
+ * и читатели не блокируются. Сегмент создается первым писателем, которому он понадобился.
+ * <p>
+ * Поддерживаются только add, addAll и чтение; остальные изменяющие операции выбрасывают
+ * UnsupportedOperationException.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class AppendOnlyLogList<T> implements SimpleList<T> {
+    /**
+     * log2 длины первого сегмента
+     */
+    private static final int FIRST_SEGMENT_SHIFT = 5;
+    /**
+     * Количество сегментов, достаточное для Integer.MAX_VALUE - 32 элементов
+     */
+    private static final int SEGMENT_COUNT = 32 - FIRST_SEGMENT_SHIFT - 1;
+    /**
+     * Наибольшее количество элементов
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - (1 << FIRST_SEGMENT_SHIFT);
+    /**
+     * Хранится в ячейке вместо null, чтобы отличать записанный null от еще не заполненной ячейки
+     */
+    private static final Object NULL = new Object();
+
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> segments =
+            new AtomicReferenceArray<>(SEGMENT_COUNT);
+    /**
+     * Количество зарезервированных ячеек
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+    /**
+     * Опубликованная граница: все ячейки ниже нее заполнены
+     */
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Добавляет элемент в конец списка, не захватывая блокировок.
+     * @param element - элемент который добавляют в список.
+     * @return true
+     * @throws IllegalStateException если список заполнен
+     */
+    @Override
+    public boolean add(T element) {
+        int index = reserve(1);
+        store(index, element);
+        publish(index);
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции одним резервом диапазона ячеек ({@code getAndAdd}). Элементы
+     * коллекции идут подряд, даже если одновременно добавляют другие писатели.
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     * @throws IllegalStateException если в списке не хватает места
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] added = collection.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        int first = reserve(added.length);
+        for (int i = 0; i < added.length; i++) {
+            @SuppressWarnings("unchecked") T element = (T) added[i];
+            store(first + i, element);
+        }
+        publish(first);
+        return true;
+    }
+
+    /**
+     * Возвращает опубликованный элемент по индексу.
+     * @param index - позиция элемента
+     * @return элемент по индексу
+     * @throws IllegalArgumentException если индекс не меньше опубликованного размера
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= published.get()) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+        Object element = slot(index);
+        return element == NULL ? null : (T) element;
+    }
+
+    /**
+     * @return количество опубликованных элементов
+     */
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Возвращает итератор по элементам, опубликованным к моменту вызова.
+     * @return итератор в порядке индексов
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return iterator(published.get());
+    }
+
+    /**
+     * Возвращает Spliterator по элементам, опубликованным к моменту вызова.
+     * @return Spliterator в порядке индексов с точным размером
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        int limit = published.get();
+        return Spliterators.spliterator(iterator(limit), limit, Spliterator.ORDERED);
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public boolean remove(T element) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Не поддерживается: список только для добавления в конец.
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Append-only list");
+    }
+
+    /**
+     * Ничего не делает: сегменты создаются по мере надобности и не содержат лишней емкости сверх
+     * последнего сегмента.
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    private int reserve(int count) {
+        int first = reserved.getAndAdd(count);
+        if (first < 0 || first > MAX_SIZE - count) {
+            // ячейки не будут заполнены, поэтому опубликованная граница дальше не продвинется
+            reserved.getAndAdd(-count);
+            throw new IllegalStateException("Append-only list is full");
+        }
+        return first;
+    }
+
+    private void store(int index, Object element) {
+        int position = index + (1 << FIRST_SEGMENT_SHIFT);
+        int segment = 31 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT;
+        AtomicReferenceArray<Object> cells = segments.get(segment);
+        if (cells == null) {
+            AtomicReferenceArray<Object> created = new AtomicReferenceArray<>(1 << (segment + FIRST_SEGMENT_SHIFT));
+            cells = segments.compareAndExchange(segment, null, created);
+            if (cells == null) {
+                cells = created;
+            }
+        }
+        cells.set(position - Integer.highestOneBit(position), element == null ? NULL : element);
+    }
+
+    /**
+     * Возвращает содержимое ячейки или null, если ячейка еще не заполнена.
+     */
+    private Object slot(int index) {
+        int position = index + (1 << FIRST_SEGMENT_SHIFT);
+        int segment = 31 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT;
+        AtomicReferenceArray<Object> cells = segments.get(segment);
+        return cells == null ? null : cells.get(position - Integer.highestOneBit(position));
+    }
+
+    /**
+     * Продвигает опубликованную границу через подряд заполненные ячейки, начиная не раньше from. Если граница
+     * меньше from, ее продвинет писатель, заполняющий ячейку перед ней.
+     */
+    private void publish(int from) {
+        int current = published.get();
+        while (current >= from && current < reserved.get() && slot(current) != null) {
+            if (published.compareAndSet(current, current + 1)) {
+                current++;
+            } else {
+                current = published.get();
+            }
+        }
+    }
+
+    private Iterator<T> iterator(int limit) {
+        return new Iterator<>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < limit;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object element = slot(current++);
+                return element == NULL ? null : (T) element;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.bogdan.list;
+
+/**
+ * Список, хранящий элементы в непрерывном диапазоне внутреннего массива.
+ * Позволяет доверенным алгоритмам (например, сортировкам) работать с этим диапазоном напрямую,
+ * без вызовов {@link SimpleList#get(int)}/{@link SimpleList#set(int, Object)} и проверок индекса на каждый доступ.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public interface ArrayBackedList<T> extends SimpleList<T> {
+
+    /**
+     * Передает действию внутренний массив и диапазон [from, to), в котором лежат элементы списка в порядке индексов.
+     * Действие может читать и переставлять элементы диапазона, но не должно сохранять ссылку на массив после
+     * возврата, записывать в массив вне диапазона или структурно изменять сам список (add/remove/clear/trimToSize)
+     * во время выполнения. Все элементы диапазона имеют тип T.
+     * @param action действие над массивом элементов
+     */
+    void applyToElements(ElementsAction action);
+
+    /**
+     * Действие над диапазоном внутреннего массива списка.
+     */
+    @FunctionalInterface
+    interface ElementsAction {
+        /**
+         * @param elements внутренний массив списка
+         * @param from первый индекс диапазона, включительно
+         * @param to последний индекс диапазона, не включительно
+         */
+        void apply(Object[] elements, int from, int to);
+    }
+}
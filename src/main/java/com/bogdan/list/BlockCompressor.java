@@ -0,0 +1,93 @@
+package com.bogdan.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Сжатие блоков снимка {@link ListSnapshots}. Каждый блок сжимается независимо, поэтому реализация не хранит
+ * состояние между вызовами. Для снимка, записанного со сжатием, при чтении нужен совместимый компрессор.
+ */
+public interface BlockCompressor {
+
+    /**
+     * @param length длина исходного блока в байтах
+     * @return наибольшая возможная длина сжатого блока
+     */
+    int maxCompressedLength(int length);
+
+    /**
+     * Сжимает байты source от position до limit и пишет результат в target с его position.
+     * @param source исходный блок, после вызова position равен limit
+     * @param target буфер назначения, в котором есть не меньше {@link #maxCompressedLength(int)} свободных байт
+     */
+    void compress(ByteBuffer source, ByteBuffer target);
+
+    /**
+     * Распаковывает блок source в target; распакованный блок должен ровно заполнить target до limit.
+     * @param source сжатый блок
+     * @param target буфер назначения
+     * @throws IOException если блок поврежден или его длина не совпадает с ожидаемой
+     */
+    void decompress(ByteBuffer source, ByteBuffer target) throws IOException;
+
+    /**
+     * @return компрессор Deflate (zlib) с уровнем сжатия по умолчанию
+     */
+    static BlockCompressor deflate() {
+        return deflate(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level уровень сжатия Deflate, от 0 до 9 или {@link Deflater#DEFAULT_COMPRESSION}
+     * @return компрессор Deflate (zlib) с заданным уровнем сжатия
+     */
+    static BlockCompressor deflate(int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Illegal compression level: " + level);
+        }
+        return new BlockCompressor() {
+            @Override
+            public int maxCompressedLength(int length) {
+                // оценка compressBound из zlib
+                return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13;
+            }
+
+            @Override
+            public void compress(ByteBuffer source, ByteBuffer target) {
+                Deflater deflater = new Deflater(level);
+                try {
+                    deflater.setInput(source);
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        deflater.deflate(target);
+                    }
+                } finally {
+                    deflater.end();
+                }
+            }
+
+            @Override
+            public void decompress(ByteBuffer source, ByteBuffer target) throws IOException {
+                Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(source);
+                    while (!inflater.finished() && target.hasRemaining()) {
+                        if (inflater.inflate(target) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            break;
+                        }
+                    }
+                    if (!inflater.finished() || target.hasRemaining()) {
+                        throw new IOException("Corrupted compressed block");
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException("Corrupted compressed block", e);
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.bogdan.list;
+
+/**
+ * Вспомогательный класс для вычисления новой длины внутреннего массива списков при росте.
+ */
+final class Capacities {
+    /**
+     * Мягкая максимальная длина массива, ограничение которое накладывается для вычисления роста массива.
+     * Некоторые JVM имеют ограничение реализации, которое приведет
+     * к возникновению ошибки OutOfMemoryError("Запрашиваемый размер массива превышает лимит виртуальной машины"),
+     * если делается запрос на выделение массива некоторой длины около Integer.MAX_VALUE,
+     * даже если имеется достаточная куча. Фактическое ограничение может зависеть от некоторых
+     * характеристик реализации JVM, таких как размер заголовка объекта. Мягкое максимальное
+     * значение выбирается консервативно, чтобы быть меньше любого ограничения реализации,
+     * которое, вероятно, встретится.
+     */
+    static final int SOFT_MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private Capacities() {
+    }
+
+    /**
+     * Вычисляет новую длину массива.
+     * @param oldLength текущая длина массива
+     * @param minGrowth минимально необходимый прирост
+     * @param prefGrowth желаемый прирост
+     * @return новую длину массива
+     * @throws OutOfMemoryError если требуемая длина превышает Integer.MAX_VALUE
+     */
+    static int newLength(int oldLength, int minGrowth, int prefGrowth) {
+        int prefLength = oldLength + Math.max(minGrowth, prefGrowth);
+        if (0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH) {
+            return prefLength;
+        } else {
+            return hugeLength(oldLength, minGrowth);
+        }
+    }
+
+    private static int hugeLength(int oldLength, int minGrowth) {
+        int minLength = oldLength + minGrowth;
+        if (minLength < 0) {
+            throw new OutOfMemoryError(
+                    "Required array length " + oldLength + " + " + minGrowth + " is too large");
+        } else return Math.max(minLength, SOFT_MAX_ARRAY_LENGTH);
+    }
+}
@@ -0,0 +1,162 @@
+package com.bogdan.list;
+
+/**
+ * Политика емкости внутреннего массива {@link CustomArrayList}: как массив растет при нехватке места и когда
+ * уменьшается после удаления элементов.
+ * <p>
+ * Рост задается множителем ({@link #growthFactor(double)}) или фиксированным приращением
+ * ({@link #fixedIncrement(int)}). Если нужно вместить больше элементов, чем дает политика, массив растет до
+ * требуемой длины.
+ * <p>
+ * Уменьшение включается {@link #withShrink(double, double, int)}. Когда после remove, removeRange, removeIf или
+ * retainAll доля незанятых ячеек становится больше maxSlack, массив перевыделяется так, чтобы незанятой осталась
+ * доля retainedSlack. Разница между maxSlack и retainedSlack - гистерезис: после уменьшения список может вырасти
+ * или сократиться на заметную долю размера, прежде чем массив перевыделится снова, поэтому список, колеблющийся
+ * около границы, не перевыделяет массив на каждой операции. После роста порог уменьшения считается не от новой
+ * емкости, а от размера, который потребовал роста: рост сам оставляет незанятой долю около 1 - 1/factor, и при
+ * меньшем maxSlack порог от емкости оказался бы почти у текущего размера, так что список, колеблющийся около
+ * границы роста, перевыделял бы массив на каждом цикле. Поэтому после роста массив уменьшается, только когда
+ * список сократится на долю maxSlack относительно размера до роста. clear() при такой политике отпускает массив
+ * и оставляет массив длиной minCapacity. Емкость не опускается ниже minCapacity.
+ * <p>
+ * Политика неизменяемая и может быть общей для многих списков.
+ */
+public final class CapacityPolicy {
+    /**
+     * Политика по умолчанию: рост в 1.5 раза, без автоматического уменьшения.
+     */
+    public static final CapacityPolicy DEFAULT = growthFactor(1.5);
+
+    private final double factor;
+    private final int increment;
+    private final double maxSlack;
+    private final double retainedSlack;
+    private final int minCapacity;
+
+    private CapacityPolicy(double factor, int increment, double maxSlack, double retainedSlack, int minCapacity) {
+        this.factor = factor;
+        this.increment = increment;
+        this.maxSlack = maxSlack;
+        this.retainedSlack = retainedSlack;
+        this.minCapacity = minCapacity;
+    }
+
+    /**
+     * Политика роста умножением емкости, без уменьшения.
+     * @param factor множитель емкости, больше 1
+     * @return новая политика
+     * @throws IllegalArgumentException если множитель не больше 1
+     */
+    public static CapacityPolicy growthFactor(double factor) {
+        if (!(factor > 1.0) || Double.isInfinite(factor)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + factor);
+        }
+        return new CapacityPolicy(factor, 0, 1.0, 0.0, 0);
+    }
+
+    /**
+     * Политика роста на фиксированное число ячеек, без уменьшения.
+     * @param increment приращение емкости, больше 0
+     * @return новая политика
+     * @throws IllegalArgumentException если приращение не положительное
+     */
+    public static CapacityPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal increment: " + increment);
+        }
+        return new CapacityPolicy(0.0, increment, 1.0, 0.0, 0);
+    }
+
+    /**
+     * Возвращает политику с тем же ростом и автоматическим уменьшением.
+     * @param maxSlack доля незанятых ячеек, при превышении которой массив уменьшается, в интервале (0, 1)
+     * @param retainedSlack доля незанятых ячеек после уменьшения, в интервале [0, maxSlack)
+     * @param minCapacity емкость, ниже которой массив не уменьшается
+     * @return новая политика
+     * @throws IllegalArgumentException если доли вне допустимых интервалов или minCapacity отрицательна
+     */
+    public CapacityPolicy withShrink(double maxSlack, double retainedSlack, int minCapacity) {
+        if (!(maxSlack > 0.0 && maxSlack < 1.0)) {
+            throw new IllegalArgumentException("Illegal max slack: " + maxSlack);
+        }
+        if (!(retainedSlack >= 0.0 && retainedSlack < maxSlack)) {
+            throw new IllegalArgumentException("Illegal retained slack: " + retainedSlack);
+        }
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Illegal min capacity: " + minCapacity);
+        }
+        return new CapacityPolicy(factor, increment, maxSlack, retainedSlack, minCapacity);
+    }
+
+    /**
+     * Возвращает политику с тем же ростом и уменьшением, после которого остается половина maxSlack.
+     * @param maxSlack доля незанятых ячеек, при превышении которой массив уменьшается, в интервале (0, 1)
+     * @param minCapacity емкость, ниже которой массив не уменьшается
+     * @return новая политика
+     * @throws IllegalArgumentException если maxSlack вне (0, 1) или minCapacity отрицательна
+     */
+    public CapacityPolicy withShrink(double maxSlack, int minCapacity) {
+        return withShrink(maxSlack, maxSlack / 2, minCapacity);
+    }
+
+    /**
+     * @return true если политика уменьшает массив после удалений
+     */
+    public boolean shrinks() {
+        return maxSlack < 1.0;
+    }
+
+    /**
+     * Желаемый прирост емкости для {@link Capacities#newLength}.
+     */
+    int preferredGrowth(int capacity) {
+        if (increment > 0) {
+            return increment;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) (capacity * (factor - 1.0)));
+    }
+
+    /**
+     * Размер, при падении ниже которого массив длиной capacity нужно уменьшить; 0 если уменьшать не нужно.
+     */
+    int shrinkSize(int capacity) {
+        if (!shrinks() || capacity <= minCapacity) {
+            return 0;
+        }
+        return (int) Math.ceil(capacity * (1.0 - maxSlack));
+    }
+
+    /**
+     * Размер, при падении ниже которого нужно уменьшить массив длиной capacity, выросший, когда списку
+     * понадобилось required ячеек; 0 если уменьшать не нужно. Считается от required, чтобы рост не оставлял
+     * список сразу у порога уменьшения.
+     */
+    int shrinkSizeAfterGrowth(int capacity, int required) {
+        return Math.min(shrinkSize(capacity), (int) Math.ceil(required * (1.0 - maxSlack)));
+    }
+
+    /**
+     * Емкость после уменьшения списка размером size.
+     */
+    int shrunkCapacity(int size) {
+        long capacity = (long) Math.ceil(size / (1.0 - retainedSlack));
+        return (int) Math.min(Capacities.SOFT_MAX_ARRAY_LENGTH, Math.max(minCapacity, Math.max(size, capacity)));
+    }
+
+    /**
+     * Емкость, которая остается после clear().
+     */
+    int clearedCapacity() {
+        return minCapacity;
+    }
+
+    @Override
+    public String toString() {
+        String growth = increment > 0 ? "increment=" + increment : "factor=" + factor;
+        if (!shrinks()) {
+            return "CapacityPolicy[" + growth + "]";
+        }
+        return "CapacityPolicy[" + growth + ", maxSlack=" + maxSlack + ", retainedSlack=" + retainedSlack
+                + ", minCapacity=" + minCapacity + "]";
+    }
+}
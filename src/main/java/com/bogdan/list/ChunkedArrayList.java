@@ -0,0 +1,350 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Реализация SimpleList на блоках (чанках) фиксированного размера 2^chunkShift и каталоге ссылок на них.
+ * В отличие от {@link CustomArrayList}, рост списка не копирует уже добавленные элементы: при заполнении последнего
+ * блока выделяется только один новый блок, а каталог (массив ссылок на блоки, в chunkSize раз меньше списка)
+ * при необходимости увеличивается в 1.5 раза. Поэтому у больших списков нет многосотмегабайтных копирований
+ * и кратковременного пика памяти в 2.5 размера массива.
+ * <p>
+ * Доступ по индексу выполняется за O(1) сдвигом и маской: блок {@code index >>> chunkShift},
+ * позиция в блоке {@code index & (chunkSize - 1)}. Вставка и удаление в середине сдвигают хвост списка
+ * поблочно, за O(n - index), как и в CustomArrayList.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class ChunkedArrayList<T> implements SimpleList<T> {
+    /**
+     * Размер блока по умолчанию - 2^12 = 4096 элементов.
+     */
+    public static final int DEFAULT_CHUNK_SHIFT = 12;
+    /**
+     * Начальная длина каталога блоков.
+     */
+    private static final int DEFAULT_DIRECTORY_LENGTH = 4;
+
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    /**
+     * Каталог блоков; заняты ссылки [0, chunkCount)
+     */
+    private Object[][] chunks;
+    /**
+     * Количество выделенных блоков
+     */
+    private int chunkCount;
+    /**
+     * Количество элементов в списке
+     */
+    private int size;
+
+    /**
+     * Конструктор по умолчанию, блоки по {@code 2^DEFAULT_CHUNK_SHIFT} элементов.
+     */
+    public ChunkedArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Конструктор принимающий размер блока как степень двойки.
+     * @param chunkShift - двоичный логарифм размера блока, от 1 до 30
+     */
+    public ChunkedArrayList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 30) {
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+        this.chunks = new Object[DEFAULT_DIRECTORY_LENGTH][];
+    }
+
+    /**
+     * Метод для получения емкости списка - суммарного размера выделенных блоков.
+     * @return количество элементов, которое поместится без выделения новых блоков
+     */
+    public long getCapacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Если последний блок заполнен, выделяется один новый блок.
+     * @param element - элемент который добавляют в список.
+     * @return true если элемент успешно добавлен
+     */
+    @Override
+    public boolean add(T element) {
+        ensureCapacity(size + 1);
+        chunks[size >>> chunkShift][size & chunkMask] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент по индексу, сдвигая последующие элементы вправо поблочно.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        checkRangeForAdd(index);
+        ensureCapacity(size + 1);
+        final int firstChunk = index >>> chunkShift;
+        final int lastChunk = size >>> chunkShift;
+        for (int c = lastChunk; c >= firstChunk; c--) {
+            Object[] chunk = chunks[c];
+            int start = c == firstChunk ? index & chunkMask : 0;
+            int end;
+            if (c == lastChunk) {
+                end = size & chunkMask;
+            } else {
+                chunks[c + 1][0] = chunk[chunkMask];
+                end = chunkMask;
+            }
+            System.arraycopy(chunk, start, chunk, start + 1, end - start);
+        }
+        chunks[firstChunk][index & chunkMask] = element;
+        size++;
+    }
+
+    /**
+     * Заменяет элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T set(int index, T element) {
+        checkRange(index);
+        Object[] chunk = chunks[index >>> chunkShift];
+        @SuppressWarnings("unchecked") T oldValue = (T) chunk[index & chunkMask];
+        chunk[index & chunkMask] = element;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @return элемент на указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkRange(index);
+        return (T) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     * @param element - элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    @Override
+    public boolean remove(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, chunks[i >>> chunkShift][i & chunkMask])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево поблочно.
+     * @param index - позиция удаляемого элемента
+     * @return удаленный элемент
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T remove(int index) {
+        checkRange(index);
+        return removeAt(index);
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex) одним сдвигом хвоста: хвост копируется
+     * отрезками, не пересекающими границ блоков, за O(n - fromIndex) независимо от длины диапазона.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int read = toIndex;
+        int write = fromIndex;
+        while (read < size) {
+            int count = Math.min(size - read,
+                    Math.min(chunkSize - (read & chunkMask), chunkSize - (write & chunkMask)));
+            System.arraycopy(chunks[read >>> chunkShift], read & chunkMask,
+                    chunks[write >>> chunkShift], write & chunkMask, count);
+            read += count;
+            write += count;
+        }
+        for (int i = write; i < size; ) {
+            int end = Math.min(size, (i | chunkMask) + 1);
+            Arrays.fill(chunks[i >>> chunkShift], i & chunkMask, ((end - 1) & chunkMask) + 1, null);
+            i = end;
+        }
+        size = write;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход с уплотнением.
+     * @param filter условие удаления
+     * @return true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final int end = size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < end; read++) {
+                @SuppressWarnings("unchecked") T element = (T) chunks[read >>> chunkShift][read & chunkMask];
+                if (!filter.test(element)) {
+                    chunks[write >>> chunkShift][write & chunkMask] = element;
+                    write++;
+                }
+            }
+        } finally {
+            for (; read < end; read++, write++) {
+                chunks[write >>> chunkShift][write & chunkMask] = chunks[read >>> chunkShift][read & chunkMask];
+            }
+            for (int i = write; i < end; i++) {
+                chunks[i >>> chunkShift][i & chunkMask] = null;
+            }
+            size = write;
+        }
+        return write != end;
+    }
+
+    /**
+     * Удаляет все элементы из списка. Выделенные блоки сохраняются для повторного использования.
+     */
+    @Override
+    public void clear() {
+        for (int c = 0; c < chunkCount; c++) {
+            Arrays.fill(chunks[c], null);
+        }
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Освобождает блоки, не содержащие элементов, и подрезает каталог. Последний частично заполненный блок
+     * сохраняет полный размер.
+     */
+    @Override
+    public void trimToSize() {
+        int usedChunks = (size + chunkMask) >>> chunkShift;
+        for (int c = usedChunks; c < chunkCount; c++) {
+            chunks[c] = null;
+        }
+        chunkCount = usedChunks;
+        chunks = Arrays.copyOf(chunks, usedChunks);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkedIterator();
+    }
+
+    private T removeAt(int index) {
+        final int firstChunk = index >>> chunkShift;
+        final int lastIndex = size - 1;
+        final int lastChunk = lastIndex >>> chunkShift;
+        @SuppressWarnings("unchecked") T oldValue = (T) chunks[firstChunk][index & chunkMask];
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            Object[] chunk = chunks[c];
+            int start = c == firstChunk ? index & chunkMask : 0;
+            if (c == lastChunk) {
+                int end = lastIndex & chunkMask;
+                System.arraycopy(chunk, start + 1, chunk, start, end - start);
+                chunk[end] = null;
+            } else {
+                System.arraycopy(chunk, start + 1, chunk, start, chunkMask - start);
+                chunk[chunkMask] = chunks[c + 1][0];
+            }
+        }
+        size = lastIndex;
+        return oldValue;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Required list size is too large");
+        }
+        while (((long) chunkCount << chunkShift) < capacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, Capacities.newLength(chunkCount, 1, chunkCount >> 1));
+            }
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    /**
+     * Итератор, проходящий блоки последовательно без вычисления индекса блока на каждый элемент.
+     */
+    private class ChunkedIterator implements Iterator<T> {
+        private int current = 0;
+        private Object[] chunk;
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int offset = current & chunkMask;
+            if (offset == 0) {
+                chunk = chunks[current >>> chunkShift];
+            }
+            current++;
+            return (T) chunk[offset];
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Реализация SimpleList на кольцевом буфере. Элементы занимают в массиве диапазон, начинающийся с позиции head и
+ * при необходимости переходящий через конец массива в его начало. Длина массива всегда степень двойки, поэтому
+ * физическая позиция элемента вычисляется маской: {@code (head + index) & (length - 1)}.
+ * <p>
+ * Добавление и удаление на обоих концах ({@link #addFirst}, {@link #addLast}, {@link #removeFirst},
+ * {@link #removeLast}, а также add(0, x) и remove(0)) выполняются за амортизированное O(1) без сдвига массива,
+ * поэтому список подходит для скользящего окна и очереди задач. Вставка и удаление по индексу сдвигают ту часть
+ * списка, которая короче: начало влево/вправо или хвост, то есть не более n/2 элементов.
+ * <p>
+ * Как {@link ArrayBackedList} список открывает свои элементы сортировкам; если диапазон переходит через конец
+ * массива, перед этим элементы переупорядочиваются в непрерывный диапазон.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class CircularArrayList<T> implements ArrayBackedList<T> {
+    /**
+     * Величина внутреннего массива, при вызове конструктора без аргументов.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Максимальная длина массива - наибольшая степень двойки, допустимая для массива.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Внутренний массив, длина - степень двойки
+     */
+    private Object[] elements;
+    /**
+     * Физическая позиция первого элемента
+     */
+    private int head;
+    /**
+     * Количество элементов в списке
+     */
+    private int size;
+
+    /**
+     * Конструктор по умолчанию
+     */
+    public CircularArrayList() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор принимающий минимальную величину внутреннего массива; она округляется вверх до степени двойки.
+     * @param initCapacity - задаваемая величина внутреннего массива
+     */
+    public CircularArrayList(int initCapacity) {
+        if (initCapacity < 0 || initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal size: " + initCapacity);
+        }
+        this.elements = new Object[powerOfTwoAtLeast(initCapacity)];
+    }
+
+    /**
+     * Метод для получения величины емкости внутреннего массива
+     * @return длину внутреннего массива
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за амортизированное O(1).
+     * @param element - элемент который добавляют в список.
+     * @return true если элемент успешно добавлен
+     */
+    @Override
+    public boolean add(T element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка за амортизированное O(1).
+     * @param element - добавляемый элемент
+     */
+    public void addFirst(T element) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & mask();
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за амортизированное O(1).
+     * @param element - добавляемый элемент
+     */
+    public void addLast(T element) {
+        ensureCapacity(size + 1);
+        elements[physical(size)] = element;
+        size++;
+    }
+
+    /**
+     * Вставляет элемент по индексу, сдвигая более короткую часть списка.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+        ensureCapacity(size + 1);
+        final Object[] temp = elements;
+        final int mask = mask();
+        if (index < size - index) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                temp[(head + i) & mask] = temp[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                temp[(head + i) & mask] = temp[(head + i - 1) & mask];
+            }
+        }
+        temp[(head + index) & mask] = element;
+        size++;
+    }
+
+    /**
+     * Заменяет элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T set(int index, T element) {
+        checkRange(index);
+        int position = physical(index);
+        @SuppressWarnings("unchecked") T oldValue = (T) elements[position];
+        elements[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @return элемент на указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkRange(index);
+        return (T) elements[physical(index)];
+    }
+
+    /**
+     * Возвращает первый элемент списка.
+     * @return первый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) elements[head];
+    }
+
+    /**
+     * Возвращает последний элемент списка.
+     * @return последний элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) elements[physical(size - 1)];
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент за O(1).
+     * @return удаленный элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент за O(1).
+     * @return удаленный элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     * @param element - элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    @Override
+    public boolean remove(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, elements[physical(i)])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая более короткую часть списка.
+     * @param index - позиция удаляемого элемента
+     * @return удаленный элемент
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T remove(int index) {
+        checkRange(index);
+        return removeAt(index);
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex) одним сдвигом более короткой части:
+     * начала списка вправо или хвоста влево, то есть не более min(fromIndex, size - toIndex) перемещений.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        final int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        final Object[] temp = elements;
+        final int mask = mask();
+        if (fromIndex < size - toIndex) {
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                temp[(head + i + count) & mask] = temp[(head + i) & mask];
+            }
+            for (int i = 0; i < count; i++) {
+                temp[(head + i) & mask] = null;
+            }
+            head = (head + count) & mask;
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                temp[(head + i - count) & mask] = temp[(head + i) & mask];
+            }
+            for (int i = size - count; i < size; i++) {
+                temp[(head + i) & mask] = null;
+            }
+        }
+        size -= count;
+    }
+
+    /**
+     * Удаляет все элементы из списка, емкость сохраняется.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[physical(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Уменьшает внутренний массив до наименьшей степени двойки, вмещающей все элементы.
+     */
+    @Override
+    public void trimToSize() {
+        int capacity = powerOfTwoAtLeast(size);
+        if (capacity < elements.length) {
+            elements = linearCopy(capacity);
+            head = 0;
+        }
+    }
+
+    /**
+     * Передает действию непрерывный диапазон массива с элементами списка. Если элементы переходят через конец
+     * массива, они предварительно переупорядочиваются так, чтобы первый элемент оказался в начале массива.
+     * @param action действие над массивом элементов
+     */
+    @Override
+    public void applyToElements(ElementsAction action) {
+        if (head + size > elements.length) {
+            elements = linearCopy(elements.length);
+            head = 0;
+        }
+        action.apply(elements, head, head + size);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CircularIterator();
+    }
+
+    private T removeAt(int index) {
+        final Object[] temp = elements;
+        final int mask = mask();
+        @SuppressWarnings("unchecked") T oldValue = (T) temp[(head + index) & mask];
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                temp[(head + i) & mask] = temp[(head + i - 1) & mask];
+            }
+            temp[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                temp[(head + i) & mask] = temp[(head + i + 1) & mask];
+            }
+            temp[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return oldValue;
+    }
+
+    private int physical(int index) {
+        return (head + index) & mask();
+    }
+
+    private int mask() {
+        return elements.length - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            if (elements.length >= MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array length " + capacity + " is too large");
+            }
+            elements = linearCopy(Math.max(elements.length << 1, 1));
+            head = 0;
+        }
+    }
+
+    /**
+     * Копирует элементы в новый массив заданной длины, начиная с позиции 0.
+     */
+    private Object[] linearCopy(int capacity) {
+        Object[] copy = new Object[capacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    private static int powerOfTwoAtLeast(int capacity) {
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    /**
+     * Итератор по элементам в порядке индексов
+     */
+    private class CircularIterator implements Iterator<T> {
+        private int current = 0;
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) elements[physical(current++)];
+        }
+    }
+}
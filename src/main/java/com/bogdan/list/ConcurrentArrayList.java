@@ -0,0 +1,438 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Потокобезопасная реализация SimpleList на массиве, защищенном {@link StampedLock}.
+ * <p>
+ * Чтения (get, size, итерация) выполняются оптимистично: ссылка на массив и размер читаются без захвата
+ * блокировки и проверяются штампом; блокировка чтения берется только если в это время прошла запись. Поэтому
+ * читатели не мешают друг другу и не блокируют писателей. Записи сериализуются блокировкой записи с коротким
+ * критическим участком; {@link #addAll(Collection)} добавляет весь набор за один захват блокировки и не более
+ * одного расширения массива, поэтому пакетная запись дешевле поэлементной.
+ * <p>
+ * Добавление в конец и set изменяют текущий массив на месте, а операции, сдвигающие элементы (вставка в середину,
+ * удаления, clear), строят новый массив и публикуют его (копирование при записи). Сдвиг и так стоит O(n), а ячейки
+ * [0, size) однажды опубликованного массива после этого меняются только через set. Благодаря этому итератор
+ * и spliterator слабо согласованы: они обходят элементы, бывшие в списке в момент их создания, ровно по одному
+ * разу, могут отражать последующие set и никогда не выбрасывают ConcurrentModificationException.
+ * Итератор не поддерживает remove.
+ * <p>
+ * Цена этого - любое удаление, даже последнего элемента, копирует оставшиеся size элементов в новый массив:
+ * обнулить последнюю ячейку на месте нельзя, так как ранее созданный итератор прочитал бы вместо удаленного
+ * элемента null или элемент, добавленный позже. Новый массив выделяется по размеру списка с запасом в половину,
+ * а не по прежней емкости, поэтому удаление из почти пустого списка большой емкости не выделяет всю емкость.
+ * <p>
+ * Условие removeIf вызывается под блокировкой записи и не должно обращаться к этому же списку.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class ConcurrentArrayList<T> implements SimpleList<T> {
+    /**
+     * Величина внутреннего массива, при вызове конструктора без аргументов.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Внутренний массив; читается оптимистично, изменяется только под блокировкой записи
+     */
+    private Object[] elements;
+    /**
+     * Количество элементов; читается оптимистично, изменяется только под блокировкой записи
+     */
+    private int size;
+
+    /**
+     * Конструктор по умолчанию
+     */
+    public ConcurrentArrayList() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор принимающий величину внутреннего массива
+     * @param initCapacity - задаваемая величина внутреннего массива
+     */
+    public ConcurrentArrayList(int initCapacity) {
+        if (initCapacity > 0) {
+            this.elements = new Object[initCapacity];
+        } else if (initCapacity == 0) {
+            this.elements = EMPTY_ELEMENTS;
+        } else {
+            throw new IllegalArgumentException("Illegal size: " + initCapacity);
+        }
+    }
+
+    /**
+     * Метод для получения величины емкости внутреннего массива
+     * @return величину длинны внутреннего массива
+     */
+    public int getCapacity() {
+        long stamp = lock.tryOptimisticRead();
+        int capacity = elements.length;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                capacity = elements.length;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return capacity;
+    }
+
+    @Override
+    public boolean add(T element) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            elements[size++] = element;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Вставляет элемент по индексу. Вставка в конец выполняется на месте, в остальных случаях публикуется новый
+     * массив со сдвинутым хвостом.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            checkRangeForAdd(index);
+            if (index == size) {
+                ensureCapacity(size + 1);
+            } else {
+                elements = copyWithGap(index, 1);
+            }
+            elements[index] = element;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка за один захват блокировки записи. Элементы коллекции
+     * копируются до захвата блокировки, а массив расширяется не более одного раза.
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] added = collection.toArray();
+        final int count = added.length;
+        if (count == 0) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + count);
+            System.arraycopy(added, 0, elements, size, count);
+            size += count;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Вставляет все элементы коллекции начиная с указанной позиции за один захват блокировки записи.
+     * @param index позиция вставки первого элемента
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        Object[] added = collection.toArray();
+        final int count = added.length;
+        long stamp = lock.writeLock();
+        try {
+            checkRangeForAdd(index);
+            if (count == 0) {
+                return false;
+            }
+            if (index == size) {
+                ensureCapacity(size + count);
+            } else {
+                elements = copyWithGap(index, count);
+            }
+            System.arraycopy(added, 0, elements, index, count);
+            size += count;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T set(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            checkRange(index, size);
+            @SuppressWarnings("unchecked") T oldValue = (T) elements[index];
+            elements[index] = element;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает элемент по индексу, не захватывая блокировку, если в это время не было записи.
+     * @param index - позиция элемента
+     * @return элемент по индексу
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] temp = elements;
+        int currentSize = size;
+        // без блокировки массив и размер могут быть несогласованы, поэтому проверяются обе границы
+        Object element = index >= 0 && index < currentSize && index < temp.length ? temp[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                element = index >= 0 && index < currentSize ? elements[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkRange(index, currentSize);
+        return (T) element;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        long stamp = lock.writeLock();
+        try {
+            final Object[] temp = elements;
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(element, temp[i])) {
+                    removeRangeLocked(i, i + 1);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkRange(index, size);
+            @SuppressWarnings("unchecked") T oldValue = (T) elements[index];
+            removeRangeLocked(index, index + 1);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex), публикуя один новый массив.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+            }
+            removeRangeLocked(fromIndex, toIndex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход и публикует один новый массив.
+     * Если условие выбросит исключение, список не изменяется.
+     * @param filter условие удаления
+     * @return true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            final Object[] temp = elements;
+            Object[] kept = new Object[temp.length];
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                @SuppressWarnings("unchecked") T element = (T) temp[read];
+                if (!filter.test(element)) {
+                    kept[write++] = element;
+                }
+            }
+            if (write == size) {
+                return false;
+            }
+            elements = kept;
+            size = write;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет все элементы. Публикуется новый массив, поэтому созданные ранее итераторы дочитывают старый.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            elements = new Object[DEFAULT_CAPACITY];
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    @Override
+    public void trimToSize() {
+        long stamp = lock.writeLock();
+        try {
+            if (size < elements.length) {
+                elements = size == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает слабо согласованный итератор по элементам, бывшим в списке в момент вызова.
+     * @return итератор в порядке индексов
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Возвращает слабо согласованный Spliterator по элементам, бывшим в списке в момент вызова. Делится
+     * пополам как spliterator массива, а его размер всегда точен.
+     * @return Spliterator в порядке индексов
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        long stamp = lock.tryOptimisticRead();
+        Object[] temp = elements;
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                temp = elements;
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Spliterators.spliterator(temp, 0, currentSize, Spliterator.ORDERED);
+    }
+
+    /**
+     * Строит новый массив с пропуском из count ячеек начиная с index. Вызывается под блокировкой записи.
+     */
+    private Object[] copyWithGap(int index, int count) {
+        final Object[] temp = elements;
+        int capacity = temp.length;
+        if (size + count > capacity) {
+            capacity = Capacities.newLength(capacity, size + count - capacity, capacity >> 1);
+        }
+        Object[] copy = new Object[capacity];
+        System.arraycopy(temp, 0, copy, 0, index);
+        System.arraycopy(temp, index, copy, index + count, size - index);
+        return copy;
+    }
+
+    /**
+     * Публикует новый массив без элементов [fromIndex, toIndex). Емкость нового массива - оставшийся размер
+     * с запасом в половину, но не больше прежней. Вызывается под блокировкой записи.
+     */
+    private void removeRangeLocked(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        final Object[] temp = elements;
+        final int newSize = size - (toIndex - fromIndex);
+        int capacity = Math.max(DEFAULT_CAPACITY, newSize + (newSize >> 1));
+        Object[] copy = new Object[Math.min(capacity, temp.length)];
+        System.arraycopy(temp, 0, copy, 0, fromIndex);
+        System.arraycopy(temp, toIndex, copy, fromIndex, size - toIndex);
+        elements = copy;
+        size = newSize;
+    }
+
+    /**
+     * Расширяет массив на месте копированием. Вызывается под блокировкой записи.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Required list size is too large");
+        }
+        if (capacity > elements.length) {
+            int oldCapacity = elements.length;
+            int newSize = Capacities.newLength(oldCapacity, capacity - oldCapacity, oldCapacity >> 1);
+            elements = Arrays.copyOf(elements, newSize);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    private static void checkRange(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+}
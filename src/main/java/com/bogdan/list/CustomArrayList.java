@@ -1,16 +1,23 @@
 package com.bogdan.list;
 
+import com.bogdan.metrics.Metrics;
+
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Представлена простая пользовательская реализация (по типу ArrayList) интерфейса SimpleList
  * с изменяемым размером массива. По мимо реализации интерфейса SimpleList, данная реализация предоставляет метод
  * для получения значения емкости внутреннего массива, что поможет при желании использовать метод trimToSize и удалить
  * выделенные ячейки. Так же представлен внутренний класс реализующий пользовательский Iterator.
+ * Как {@link ArrayBackedList} список открывает диапазон [0, size) внутреннего массива доверенным сортировкам.
+ * Рост и автоматическое уменьшение внутреннего массива задаются {@link CapacityPolicy}; по умолчанию массив растет
+ * в 1.5 раза и уменьшается только методом trimToSize.
  *
  * @param <T> - указывает тип элемента в списке.
  */
-public class CustomArrayList<T> implements SimpleList<T> {
+public class CustomArrayList<T> implements ArrayBackedList<T> {
     /**
      * Величина внутреннего массива, при вызове конструктора без аргументов.
      */
@@ -20,17 +27,6 @@ public class CustomArrayList<T> implements SimpleList<T> {
      * Устанавливается если емкость равняется 0.
      */
     private static final Object[] EMPTY_ELEMENTS = {};
-    /**
-     * Мягкая максимальная длина массива, ограничение которое накладывается для вычисления роста массива.
-     * Некоторые JVM имеют ограничение реализации, которое приведет
-     * к возникновению ошибки OutOfMemoryError("Запрашиваемый размер массива превышает лимит виртуальной машины"),
-     * если делается запрос на выделение массива некоторой длины около Integer.MAX_VALUE,
-     * даже если имеется достаточная куча. Фактическое ограничение может зависеть от некоторых
-     * характеристик реализации JVM, таких как размер заголовка объекта. Мягкое максимальное
-     * значение выбирается консервативно, чтобы быть меньше любого ограничения реализации,
-     * которое, вероятно, встретится.
-     */
-    private static final int SOFT_MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
     /**
      * Внутренний массив для хранения списка элементов
      */
@@ -39,12 +35,24 @@ public class CustomArrayList<T> implements SimpleList<T> {
      * Размер коллекции с элементами, показывает количество элементов находящиеся в массиве
      */
     private int size;
+    /**
+     * Политика роста и уменьшения внутреннего массива
+     */
+    private final CapacityPolicy policy;
+    /**
+     * Размер, при падении ниже которого массив уменьшается по политике; 0 если уменьшать не нужно
+     */
+    private int shrinkSize;
+    /**
+     * Зарегистрирован ли список в {@link ListMetrics}
+     */
+    private boolean tracked;
 
     /**
      * Конструктор по умолчинию
      */
     public CustomArrayList() {
-        this.elements = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, CapacityPolicy.DEFAULT);
     }
 
     /**
@@ -52,6 +60,24 @@ public class CustomArrayList<T> implements SimpleList<T> {
      * @param initCapacity - задаваемая величина внутреннего массива
      */
     public CustomArrayList(int initCapacity) {
+        this(initCapacity, CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Конструктор принимающий политику емкости, начальная емкость по умолчанию.
+     * @param policy - политика роста и уменьшения внутреннего массива
+     */
+    public CustomArrayList(CapacityPolicy policy) {
+        this(DEFAULT_CAPACITY, policy);
+    }
+
+    /**
+     * Конструктор принимающий велечину внутреннего массива и политику емкости.
+     * @param initCapacity - задаваемая величина внутреннего массива
+     * @param policy - политика роста и уменьшения внутреннего массива
+     */
+    public CustomArrayList(int initCapacity, CapacityPolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
         if (initCapacity > 0) {
             this.elements = new Object[initCapacity];
         } else if (initCapacity == 0) {
@@ -59,6 +85,7 @@ public class CustomArrayList<T> implements SimpleList<T> {
         } else {
             throw new IllegalArgumentException("Illegal size: " + initCapacity);
         }
+        this.shrinkSize = policy.shrinkSize(elements.length);
     }
 
     /**
@@ -66,6 +93,7 @@ public class CustomArrayList<T> implements SimpleList<T> {
      * @param collection экземпляр принимаемой коллекции
      */
     public CustomArrayList(Collection<? extends T> collection) {
+        this.policy = CapacityPolicy.DEFAULT;
         Object[] temp = collection.toArray();
         this.size = temp.length;
         if (size != 0) {
@@ -83,13 +111,28 @@ public class CustomArrayList<T> implements SimpleList<T> {
         return elements.length;
     }
 
+    /**
+     * @return политика роста и уменьшения внутреннего массива
+     */
+    public CapacityPolicy getCapacityPolicy() {
+        return policy;
+    }
+
     /**
      * Метод для удаления пустых ячеек внутреннего массива
      */
     @Override
     public void trimToSize() {
         if (size < elements.length) {
+            ListResizeEvent event = new ListResizeEvent();
+            event.begin();
+            final int oldCapacity = elements.length;
             elements = (size == 0) ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+            shrinkSize = policy.shrinkSize(elements.length);
+            if (Metrics.ENABLED) {
+                ListMetrics.trimmed(size);
+            }
+            commitResize(event, true, oldCapacity);
         }
     }
 
@@ -122,35 +165,214 @@ public class CustomArrayList<T> implements SimpleList<T> {
         checkRange(index);
         ensureCapacity(this.size + 1);
         System.arraycopy(elements, index, elements, index + 1, size - index);
+        if (Metrics.ENABLED) {
+            ListMetrics.copied(size - index);
+        }
         elements[index] = element;
         this.size++;
     }
 
+    /**
+     * Добавляет все элементы коллекции в конец списка. Емкость внутреннего массива увеличивается не более одного раза
+     * на весь набор элементов.
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     * @throws OutOfMemoryError - метод ensureCapacity может выбросить ошибку если емкость массива превышает Integer
+     * .MAX_VALUE
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] added = collection.toArray();
+        final int count = added.length;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(this.size + count);
+        System.arraycopy(added, 0, elements, this.size, count);
+        this.size += count;
+        return true;
+    }
+
+    /**
+     * Вставляет все элементы коллекции начиная с указанной позиции. Емкость увеличивается не более одного раза,
+     * а последующие элементы сдвигаются вправо одним вызовом System.arraycopy.
+     * @param index позиция вставки первого элемента
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     * @throws OutOfMemoryError - метод ensureCapacity может выбросить ошибку если емкость массива превышает Integer
+     * .MAX_VALUE
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        checkRange(index);
+        Object[] added = collection.toArray();
+        final int count = added.length;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(this.size + count);
+        final int moved = this.size - index;
+        if (moved > 0) {
+            System.arraycopy(elements, index, elements, index + count, moved);
+            if (Metrics.ENABLED) {
+                ListMetrics.copied(moved);
+            }
+        }
+        System.arraycopy(added, 0, elements, index, count);
+        this.size += count;
+        return true;
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex) одним сдвигом хвоста списка.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        shiftTailDown(fromIndex, toIndex);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход: оставшиеся элементы уплотняются к началу
+     * массива по мере обхода. Если условие выбросит исключение, непроверенные элементы сохраняются, а список
+     * остается согласованным.
+     * @param filter условие удаления
+     * @return true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final Object[] temp = elements;
+        final int end = this.size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < end; read++) {
+                @SuppressWarnings("unchecked") T element = (T) temp[read];
+                if (!filter.test(element)) {
+                    temp[write++] = element;
+                }
+            }
+        } finally {
+            if (read != end) {
+                System.arraycopy(temp, read, temp, write, end - read);
+                write += end - read;
+            }
+            Arrays.fill(temp, write, end, null);
+            this.size = write;
+            shrinkIfNeeded();
+        }
+        return write != end;
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в коллекции, за один проход.
+     * @param collection элементы, которые нужно сохранить
+     * @return true если список изменился
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    private void shiftTailDown(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        final Object[] temp = elements;
+        System.arraycopy(temp, toIndex, temp, fromIndex, this.size - toIndex);
+        if (Metrics.ENABLED) {
+            ListMetrics.copied(this.size - toIndex);
+        }
+        final int newSize = this.size - (toIndex - fromIndex);
+        Arrays.fill(temp, newSize, this.size, null);
+        this.size = newSize;
+        shrinkIfNeeded();
+    }
+
     private void ensureCapacity(int capacity) {
+        if (Metrics.ENABLED) {
+            track();
+        }
         if (capacity > elements.length) {
+            ListResizeEvent event = new ListResizeEvent();
+            event.begin();
             int oldCapacity = elements.length;
             Object[] oldElements = this.elements;
-            int newSize = newLength(oldCapacity,
+            int newSize = Capacities.newLength(oldCapacity,
                     capacity - oldCapacity,
-                    oldCapacity >> 1);
+                    policy.preferredGrowth(oldCapacity));
             this.elements = Arrays.copyOf(oldElements, newSize);
+            this.shrinkSize = policy.shrinkSizeAfterGrowth(newSize, capacity);
+            if (Metrics.ENABLED) {
+                ListMetrics.resized(oldCapacity);
+            }
+            commitResize(event, false, oldCapacity);
         }
     }
-    private int newLength(int oldLength,int minGrowth, int prefGrowth){
-        int prefLength = oldLength + Math.max(minGrowth, prefGrowth);
-        if(0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH){
-            return prefLength;
-        } else {
-            return hugeLength(oldLength,minGrowth);
+
+    private void shrinkIfNeeded() {
+        if (Metrics.ENABLED) {
+            track();
+        }
+        if (size < shrinkSize) {
+            shrink();
+        }
+    }
+
+    private void shrink() {
+        final int oldCapacity = elements.length;
+        final int newCapacity = policy.shrunkCapacity(size);
+        if (newCapacity >= oldCapacity) {
+            shrinkSize = policy.shrinkSize(oldCapacity);
+            return;
+        }
+        ListResizeEvent event = new ListResizeEvent();
+        event.begin();
+        elements = (newCapacity == 0) ? EMPTY_ELEMENTS : Arrays.copyOf(elements, newCapacity);
+        shrinkSize = policy.shrinkSize(newCapacity);
+        if (Metrics.ENABLED) {
+            ListMetrics.trimmed(size);
         }
+        commitResize(event, true, oldCapacity);
     }
 
-    private int hugeLength(int oldLength, int minGrowth) {
-        int minLength = oldLength + minGrowth;
-        if (minLength < 0) {
-            throw new OutOfMemoryError(
-                    "Required array length " + oldLength + " + " + minGrowth + " is too large");
-        } else return Math.max(minLength, SOFT_MAX_ARRAY_LENGTH);
+    private void commitResize(ListResizeEvent event, boolean trim, int oldCapacity) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.trim = trim;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = elements.length;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    /**
+     * Регистрирует список в {@link ListMetrics} при первом изменении размера, а не в конструкторе, чтобы ссылка
+     * на не до конца построенный список не попадала в другие потоки. Список, в который ничего не добавляли
+     * и из которого ничего не удаляли, в незанятой емкости не учитывается.
+     */
+    private void track() {
+        if (!tracked) {
+            tracked = true;
+            ListMetrics.track(this);
+        }
+    }
+
+    /**
+     * Незанятая емкость для {@link ListMetrics}. Может вызываться из другого потока, поэтому массив читается
+     * один раз.
+     */
+    int wastedCapacity() {
+        final Object[] temp = elements;
+        return Math.max(0, temp.length - size);
     }
 
     private void checkRange(int index) {
@@ -200,6 +422,35 @@ public class CustomArrayList<T> implements SimpleList<T> {
         return new CustomIterator<>();
     }
 
+    /**
+     * Возвращает Spliterator по элементам списка с характеристиками ORDERED, SIZED и SUBSIZED.
+     * Деление идет пополам по диапазону индексов, поэтому параллельные потоки над списком равномерно
+     * распределяют работу между потоками. Границы диапазона фиксируются при первом обходе или делении.
+     * @return Spliterator по элементам в порядке индексов
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new CustomSpliterator(0, -1);
+    }
+
+    /**
+     * Передает действию внутренний массив и диапазон [0, size) с элементами списка.
+     * @param action действие над массивом элементов
+     */
+    @Override
+    public void applyToElements(ElementsAction action) {
+        action.apply(elements, 0, size);
+    }
+
+    /**
+     * Создает неизменяемый снимок списка за O(n). Снимок не зависит от последующих изменений списка, а его
+     * новые версии (set/add/remove) разделяют структуру со снимком.
+     * @return персистентный вектор с элементами списка
+     */
+    public PersistentVector<T> toPersistentVector() {
+        return PersistentVector.copyOf(this);
+    }
+
     /**
      * Удаляет элемент в указанной позиции в этом списке. Сдвигает любые последующие элементы влево.
      * @param index - позиция элемента для удалния
@@ -257,17 +508,44 @@ public class CustomArrayList<T> implements SimpleList<T> {
 
     private void fastRemove(Object[] elements, int index) {
         final int newSize = size - 1;
-        if (newSize > index)
+        if (newSize > index) {
             System.arraycopy(elements, index + 1, elements, index, newSize - index);
+            if (Metrics.ENABLED) {
+                ListMetrics.copied(newSize - index);
+            }
+        }
         size = newSize;
         elements[size] = null;
+        shrinkIfNeeded();
     }
 
     /**
      * Удаляет все элементы из этого списка. Список будет пуст после возврата этого вызова.
+     * Если политика емкости уменьшает массив, внутренний массив заменяется массивом минимальной емкости политики,
+     * и это учитывается как уменьшение в {@link ListResizeEvent} и {@link ListMetrics}; иначе массив сохраняется,
+     * а его ячейки обнуляются.
      */
     @Override
     public void clear() {
+        if (Metrics.ENABLED) {
+            track();
+        }
+        if (policy.shrinks()) {
+            final int capacity = policy.clearedCapacity();
+            final int oldCapacity = elements.length;
+            if (oldCapacity > capacity) {
+                ListResizeEvent event = new ListResizeEvent();
+                event.begin();
+                elements = (capacity == 0) ? EMPTY_ELEMENTS : new Object[capacity];
+                shrinkSize = policy.shrinkSize(capacity);
+                this.size = 0;
+                if (Metrics.ENABLED) {
+                    ListMetrics.trimmed(0);
+                }
+                commitResize(event, true, oldCapacity);
+                return;
+            }
+        }
         for (int i = 0; i < size; i++) {
             elements[i] = null;
         }
@@ -275,7 +553,8 @@ public class CustomArrayList<T> implements SimpleList<T> {
     }
 
     /**
-     * Метод для сравнения объектов
+     * Метод для сравнения объектов. Сравниваются только элементы в диапазоне [0, size),
+     * незанятые ячейки внутреннего массива не учитываются.
      * @param obj - объект для сравнения
      * @return true если объекты равны
      */
@@ -284,7 +563,7 @@ public class CustomArrayList<T> implements SimpleList<T> {
         if(this == obj) return true;
         if(obj == null || getClass() != obj.getClass()) return false;
         CustomArrayList<?> that = (CustomArrayList<?>) obj;
-        return size == that.size && Arrays.equals(elements,that.elements);
+        return size == that.size && Arrays.equals(elements, 0, size, that.elements, 0, that.size);
     }
 
     /**
@@ -294,7 +573,9 @@ public class CustomArrayList<T> implements SimpleList<T> {
     @Override
     public int hashCode(){
         int result = Objects.hash(size);
-        result = 31 * result + Arrays.hashCode(elements);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(elements[i]);
+        }
         return result;
     }
 
@@ -349,4 +630,78 @@ public class CustomArrayList<T> implements SimpleList<T> {
             return value;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Внутренний класс с реализацией Spliterator по диапазону внутреннего массива
+     */
+    private class CustomSpliterator implements Spliterator<T> {
+        /**
+         * Текущая позиция, изменяется при обходе и делении
+         */
+        private int index;
+        /**
+         * Граница диапазона, не включительно; -1 пока граница не зафиксирована
+         */
+        private int fence;
+
+        private CustomSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int high = getFence();
+            int low = index;
+            int mid = (low + high) >>> 1;
+            if (low >= mid) {
+                return null;
+            }
+            index = mid;
+            return new CustomSpliterator(low, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int i = index;
+            if (i < getFence()) {
+                index = i + 1;
+                @SuppressWarnings("unchecked") T value = (T) elements[i];
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final Object[] temp = elements;
+            final int high = getFence();
+            int i = index;
+            index = high;
+            for (; i < high; i++) {
+                action.accept((T) temp[i]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bogdan.list;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Явное освобождение прямых (direct) и отображенных в память буферов. Без него память буфера освобождается,
+ * только когда сборщик мусора обнаружит, что буфер недостижим, и при большом объеме выделений вне кучи и редких
+ * сборках можно получить OutOfMemoryError: Direct buffer memory.
+ * <p>
+ * Используется {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} из модуля jdk.unsupported, доступный без флагов
+ * JVM. Метод ищется через MethodHandle по имени класса, поэтому в коде нет ссылок на внутренний API и компилятор
+ * не выдает о нем предупреждений. После освобождения обращение к буферу приводит к аварийному завершению JVM,
+ * поэтому освобождать можно только буферы, на которые больше нет ссылок у списка.
+ */
+final class DirectBuffers {
+    /**
+     * invokeCleaner, привязанный к экземпляру Unsafe, тип (ByteBuffer)void; null если Unsafe недоступен
+     */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Освобождает память прямого или отображенного буфера. Если Unsafe недоступен, буфер освобождается
+     * сборщиком мусора, как без этого вызова.
+     * @param buffer - исходный буфер (не срез и не копия), созданный allocateDirect или FileChannel.map
+     * @throws IllegalArgumentException если буфер - срез или копия другого буфера
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null && buffer != null && buffer.isDirect()) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
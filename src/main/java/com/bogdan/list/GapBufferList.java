@@ -0,0 +1,286 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Реализация SimpleList на буфере с разрывом (gap buffer). Внутренний массив содержит элементы списка и один
+ * непрерывный свободный участок - разрыв [gapStart, gapEnd). Элементы с индексом меньше gapStart лежат перед
+ * разрывом, остальные - после него, поэтому {@link #get(int)} и {@link #set(int, Object)} работают за O(1).
+ * <p>
+ * Вставка и удаление по индексу сначала перемещают разрыв к этому индексу, копируя только элементы между старым и
+ * новым положением разрыва, после чего занимают или освобождают одну ячейку на его границе. Поэтому серия правок
+ * рядом с "курсором" (как в текстовом редакторе) стоит O(расстояния между соседними правками), а не O(n) на каждую
+ * правку, как в {@link CustomArrayList}. Произвольные правки в разных концах списка по-прежнему стоят O(n).
+ * <p>
+ * Как {@link ArrayBackedList} список открывает элементы сортировкам: разрыв предварительно перемещается в конец
+ * массива, и элементы занимают непрерывный диапазон [0, size).
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class GapBufferList<T> implements ArrayBackedList<T> {
+    /**
+     * Величина внутреннего массива, при вызове конструктора без аргументов.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Внутренний массив: элементы [0, gapStart), разрыв [gapStart, gapEnd), элементы [gapEnd, length)
+     */
+    private Object[] elements;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Конструктор по умолчанию
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор принимающий величину внутреннего массива
+     * @param initCapacity - задаваемая величина внутреннего массива
+     */
+    public GapBufferList(int initCapacity) {
+        if (initCapacity < 0) {
+            throw new IllegalArgumentException("Illegal size: " + initCapacity);
+        }
+        this.elements = new Object[initCapacity];
+        this.gapEnd = initCapacity;
+    }
+
+    /**
+     * Метод для получения величины емкости внутреннего массива
+     * @return длину внутреннего массива
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param element - элемент который добавляют в список.
+     * @return true если элемент успешно добавлен
+     */
+    @Override
+    public boolean add(T element) {
+        add(size(), element);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент по индексу: разрыв перемещается к индексу, и элемент занимает его первую ячейку.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            grow(elements.length + 1);
+        }
+        elements[gapStart++] = element;
+    }
+
+    /**
+     * Заменяет элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T set(int index, T element) {
+        checkRange(index);
+        int position = physical(index);
+        @SuppressWarnings("unchecked") T oldValue = (T) elements[position];
+        elements[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает элемент по индексу за O(1).
+     * @param index - позиция элемента
+     * @return элемент на указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkRange(index);
+        return (T) elements[physical(index)];
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     * @param element - элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    @Override
+    public boolean remove(T element) {
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, elements[physical(i)])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет элемент по индексу: разрыв перемещается к индексу и поглощает ячейку элемента.
+     * @param index - позиция удаляемого элемента
+     * @return удаленный элемент
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T remove(int index) {
+        checkRange(index);
+        return removeAt(index);
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex): разрыв перемещается к fromIndex и поглощает
+     * весь диапазон сразу, поэтому копируются только элементы между старым положением разрыва и fromIndex.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        moveGap(fromIndex);
+        final int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(elements, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Удаляет все элементы из списка, емкость сохраняется.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        gapStart = 0;
+        gapEnd = elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Метод для удаления разрыва: разрыв перемещается в конец, и массив подрезается до размера списка.
+     */
+    @Override
+    public void trimToSize() {
+        if (gapStart != gapEnd) {
+            moveGap(size());
+            elements = Arrays.copyOf(elements, gapStart);
+            gapEnd = gapStart;
+        }
+    }
+
+    /**
+     * Передает действию диапазон [0, size) внутреннего массива. Разрыв предварительно перемещается в конец.
+     * @param action действие над массивом элементов
+     */
+    @Override
+    public void applyToElements(ElementsAction action) {
+        final int size = size();
+        moveGap(size);
+        action.apply(elements, 0, size);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new GapIterator();
+    }
+
+    private T removeAt(int index) {
+        moveGap(index);
+        @SuppressWarnings("unchecked") T oldValue = (T) elements[gapEnd];
+        elements[gapEnd++] = null;
+        return oldValue;
+    }
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с индекса списка position. Копируются только элементы между
+     * старым и новым положением разрыва; освободившиеся ячейки обнуляются.
+     */
+    private void moveGap(int position) {
+        if (position < gapStart) {
+            int count = gapStart - position;
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(elements, position, elements, newGapEnd, count);
+            Arrays.fill(elements, position, Math.min(gapStart, newGapEnd), null);
+            gapStart = position;
+            gapEnd = newGapEnd;
+        } else if (position > gapStart) {
+            int count = position - gapStart;
+            int newGapEnd = gapEnd + count;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            Arrays.fill(elements, Math.max(position, gapEnd), newGapEnd, null);
+            gapStart = position;
+            gapEnd = newGapEnd;
+        }
+    }
+
+    private void grow(int capacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = Capacities.newLength(oldCapacity, capacity - oldCapacity, oldCapacity >> 1);
+        Object[] grown = new Object[newCapacity];
+        int tail = oldCapacity - gapEnd;
+        System.arraycopy(elements, 0, grown, 0, gapStart);
+        System.arraycopy(elements, gapEnd, grown, newCapacity - tail, tail);
+        elements = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    /**
+     * Итератор по элементам в порядке индексов, перескакивающий через разрыв
+     */
+    private class GapIterator implements Iterator<T> {
+        private int current = 0;
+
+        @Override
+        public boolean hasNext() {
+            return current < size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) elements[physical(current++)];
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Реализация SimpleList на массиве (как {@link CustomArrayList}) с хеш-индексом "элемент - позиции".
+ * Для каждого различного элемента индекс хранит отсортированный список ячеек массива, где он лежит, поэтому
+ * {@link #contains(Object)} и {@link #remove(Object)} работают за амортизированное O(1) в среднем, без просмотра
+ * массива.
+ * <p>
+ * {@link #remove(Object)} не сдвигает хвост: ячейка удаленного элемента помечается "надгробием", и позиции
+ * остальных элементов в индексе не меняются. Когда надгробий становится больше половины занятых ячеек, массив
+ * уплотняется одним проходом, а индекс перестраивается при следующем поиске по значению, поэтому серия удалений
+ * по значению (например, удаление дубликатов) стоит амортизированное O(1) на удаление.
+ * <p>
+ * Позиционные операции (get, set, add(int, T), remove(int), indexOf, lastIndexOf) работают с индексами без
+ * надгробий: если после удалений по значению надгробия есть, они сначала уплотняют массив за O(n). Вставка и
+ * удаление по индексу в середине сдвигают хвост за O(n - index), как в CustomArrayList, и не обновляют индекс
+ * поэлементно, а помечают его устаревшим; он перестраивается за O(n) при следующей операции по значению.
+ * Добавление и удаление в конце поддерживают индекс за O(1).
+ * <p>
+ * Накладные расходы памяти: на каждый различный элемент - узел HashMap (около 32 байт), ячейка таблицы
+ * (4-8 байт), объект списка позиций (около 24 байт) и массив позиций (16 байт заголовка плюс 4 байта на каждое
+ * вхождение с запасом до 1.5x). Для списка из различных элементов это примерно 80 байт на элемент сверх ссылки
+ * во внутреннем массиве. Элементы должны корректно реализовывать equals/hashCode, а их хеш-код не должен меняться,
+ * пока они находятся в списке. Элементы сравниваются через equals, null допускается.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class IndexedArrayList<T> implements ArrayBackedList<T> {
+    /**
+     * Величина внутреннего массива, при вызове конструктора без аргументов.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Метка ячейки удаленного элемента
+     */
+    private static final Object TOMBSTONE = new Object();
+    /**
+     * Внутренний массив для хранения списка элементов; ячейки [0, end) заняты элементами или надгробиями
+     */
+    private Object[] elements;
+    /**
+     * Число занятых ячеек массива, включая надгробия
+     */
+    private int end;
+    /**
+     * Размер коллекции с элементами
+     */
+    private int size;
+    /**
+     * Индекс: элемент - отсортированные ячейки его вхождений
+     */
+    private final Map<Object, Positions> index = new HashMap<>();
+    /**
+     * true если ячейки элементов изменились без обновления индекса и его нужно перестроить
+     */
+    private boolean indexStale;
+
+    /**
+     * Конструктор по умолчанию
+     */
+    public IndexedArrayList() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор принимающий величину внутреннего массива
+     * @param initCapacity - задаваемая величина внутреннего массива
+     */
+    public IndexedArrayList(int initCapacity) {
+        if (initCapacity < 0) {
+            throw new IllegalArgumentException("Illegal size: " + initCapacity);
+        }
+        this.elements = new Object[initCapacity];
+    }
+
+    /**
+     * Добавляет элемент в конец списка за амортизированное O(1).
+     * @param element - элемент который добавляют в список.
+     * @return true если элемент успешно добавлен
+     */
+    @Override
+    public boolean add(T element) {
+        ensureCapacity(1);
+        elements[end] = element;
+        if (!indexStale) {
+            positionsOf(element).append(end);
+        }
+        end++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент по индексу, сдвигая хвост списка. Индекс при вставке в середину помечается устаревшим.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - элемент который добавляют в список.
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public void add(int index, T element) {
+        checkRangeForAdd(index);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        compact();
+        ensureCapacity(1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        end = size;
+        indexStale = true;
+    }
+
+    /**
+     * Заменяет элемент по индексу за O(1) в среднем, если в массиве нет надгробий.
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T set(int index, T element) {
+        checkRange(index);
+        compact();
+        @SuppressWarnings("unchecked") T oldValue = (T) elements[index];
+        elements[index] = element;
+        if (!indexStale) {
+            unindex(oldValue, index);
+            positionsOf(element).insert(index);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     * @param index - позиция элемента
+     * @return элемент на указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkRange(index);
+        compact();
+        return (T) elements[index];
+    }
+
+    /**
+     * Удаляет первое вхождение элемента за амортизированное O(1) в среднем: ячейка находится по индексу
+     * и помечается надгробием, остальные элементы и их позиции в индексе не меняются.
+     * @param element - элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    @Override
+    public boolean remove(T element) {
+        ensureIndex();
+        Positions positions = index.get(element);
+        if (positions == null) {
+            return false;
+        }
+        int slot = positions.removeFirst();
+        if (positions.isEmpty()) {
+            index.remove(element);
+        }
+        size--;
+        if (slot == end - 1) {
+            elements[--end] = null;
+        } else {
+            elements[slot] = TOMBSTONE;
+            if (end - size > size) {
+                compact();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая хвост списка. Индекс при удалении из середины помечается устаревшим.
+     * @param index - позиция удаляемого элемента
+     * @return удаленный элемент
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @Override
+    public T remove(int index) {
+        checkRange(index);
+        compact();
+        @SuppressWarnings("unchecked") T oldValue = (T) elements[index];
+        final int newSize = size - 1;
+        if (newSize > index) {
+            System.arraycopy(elements, index + 1, elements, index, newSize - index);
+            indexStale = true;
+        } else if (!indexStale) {
+            unindex(oldValue, index);
+        }
+        elements[newSize] = null;
+        size = newSize;
+        end = newSize;
+        return oldValue;
+    }
+
+    /**
+     * Проверяет, есть ли элемент в списке, за O(1) в среднем.
+     * @param element - искомый элемент
+     * @return true если элемент есть в списке
+     */
+    public boolean contains(Object element) {
+        ensureIndex();
+        return index.containsKey(element);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента за O(1) в среднем, если в массиве нет надгробий.
+     * @param element - искомый элемент
+     * @return индекс первого вхождения или -1
+     */
+    public int indexOf(Object element) {
+        compact();
+        ensureIndex();
+        Positions positions = index.get(element);
+        return positions == null ? -1 : positions.first();
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента за O(1) в среднем, если в массиве нет надгробий.
+     * @param element - искомый элемент
+     * @return индекс последнего вхождения или -1
+     */
+    public int lastIndexOf(Object element) {
+        compact();
+        ensureIndex();
+        Positions positions = index.get(element);
+        return positions == null ? -1 : positions.last();
+    }
+
+    /**
+     * Удаляет элементы диапазона [fromIndex, toIndex) одним сдвигом; индекс помечается устаревшим.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        compact();
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        final int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        end = newSize;
+        indexStale = true;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход (заодно убирая надгробия);
+     * индекс помечается устаревшим.
+     * @param filter условие удаления
+     * @return true если был удален хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final int oldSize = size;
+        final int last = end;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < last; read++) {
+                Object slot = elements[read];
+                if (slot == TOMBSTONE) {
+                    continue;
+                }
+                @SuppressWarnings("unchecked") T element = (T) slot;
+                if (!filter.test(element)) {
+                    elements[write++] = element;
+                }
+            }
+        } finally {
+            for (; read < last; read++) {
+                if (elements[read] != TOMBSTONE) {
+                    elements[write++] = elements[read];
+                }
+            }
+            Arrays.fill(elements, write, last, null);
+            if (write != last) {
+                indexStale = true;
+            }
+            size = write;
+            end = write;
+        }
+        return write != oldSize;
+    }
+
+    /**
+     * Удаляет все элементы из списка и очищает индекс.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, end, null);
+        size = 0;
+        end = 0;
+        index.clear();
+        indexStale = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для удаления пустых ячеек внутреннего массива и надгробий
+     */
+    @Override
+    public void trimToSize() {
+        compact();
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Передает действию внутренний массив и диапазон [0, size). Действие может переставить элементы
+     * (например, отсортировать), поэтому после него индекс помечается устаревшим.
+     * @param action действие над массивом элементов
+     */
+    @Override
+    public void applyToElements(ElementsAction action) {
+        compact();
+        try {
+            action.apply(elements, 0, size);
+        } finally {
+            indexStale = true;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int current = skipTombstones(0);
+
+            @Override
+            public boolean hasNext() {
+                return current < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T value = (T) elements[current];
+                current = skipTombstones(current + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Метод для сравнения объектов, сравниваются только элементы списка без учета надгробий
+     * @param obj - объект для сравнения
+     * @return true если объекты равны
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        IndexedArrayList<?> that = (IndexedArrayList<?>) obj;
+        if (size != that.size) return false;
+        Iterator<?> other = that.iterator();
+        for (Object element : this) {
+            if (!Objects.equals(element, other.next())) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Object element : this) {
+            result = 31 * result + Objects.hashCode(element);
+        }
+        return result;
+    }
+
+    private int skipTombstones(int slot) {
+        while (slot < end && elements[slot] == TOMBSTONE) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Убирает надгробия одним проходом; ячейки элементов меняются, поэтому индекс помечается устаревшим.
+     */
+    private void compact() {
+        if (end == size) {
+            return;
+        }
+        int write = 0;
+        for (int read = 0; read < end; read++) {
+            Object slot = elements[read];
+            if (slot != TOMBSTONE) {
+                elements[write++] = slot;
+            }
+        }
+        Arrays.fill(elements, write, end, null);
+        end = write;
+        indexStale = true;
+    }
+
+    private void ensureIndex() {
+        if (indexStale) {
+            index.clear();
+            for (int i = 0; i < end; i++) {
+                if (elements[i] != TOMBSTONE) {
+                    positionsOf(elements[i]).append(i);
+                }
+            }
+            indexStale = false;
+        }
+    }
+
+    private Positions positionsOf(Object element) {
+        return index.computeIfAbsent(element, key -> new Positions());
+    }
+
+    private void unindex(Object element, int position) {
+        Positions positions = index.get(element);
+        positions.remove(position);
+        if (positions.isEmpty()) {
+            index.remove(element);
+        }
+    }
+
+    /**
+     * Обеспечивает место для additional новых ячеек после end: сначала занимает место надгробий,
+     * затем увеличивает массив.
+     */
+    private void ensureCapacity(int additional) {
+        if (end + additional > elements.length) {
+            compact();
+            if (end + additional > elements.length) {
+                int oldCapacity = elements.length;
+                int newSize = Capacities.newLength(oldCapacity, end + additional - oldCapacity, oldCapacity >> 1);
+                elements = Arrays.copyOf(elements, newSize);
+            }
+        }
+    }
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    /**
+     * Отсортированный по возрастанию список ячеек одного элемента. Первая ячейка удаляется сдвигом начала
+     * за O(1), чтобы удаление по значению не копировало остальные ячейки.
+     */
+    private static final class Positions {
+        private int[] data = new int[1];
+        private int head;
+        private int count;
+
+        private boolean isEmpty() {
+            return count == head;
+        }
+
+        private int first() {
+            return data[head];
+        }
+
+        private int last() {
+            return data[count - 1];
+        }
+
+        private int removeFirst() {
+            return data[head++];
+        }
+
+        /**
+         * Добавляет ячейку, большую всех имеющихся.
+         */
+        private void append(int position) {
+            grow();
+            data[count++] = position;
+        }
+
+        private void insert(int position) {
+            grow();
+            int at = -(Arrays.binarySearch(data, head, count, position) + 1);
+            System.arraycopy(data, at, data, at + 1, count - at);
+            data[at] = position;
+            count++;
+        }
+
+        private void remove(int position) {
+            int at = Arrays.binarySearch(data, head, count, position);
+            System.arraycopy(data, at + 1, data, at, count - at - 1);
+            count--;
+        }
+
+        private void grow() {
+            if (count == data.length) {
+                if (head > 0) {
+                    System.arraycopy(data, head, data, 0, count - head);
+                    count -= head;
+                    head = 0;
+                }
+                if (count == data.length) {
+                    data = Arrays.copyOf(data, count + (count >> 1) + 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.bogdan.list;
+
+import com.bogdan.metrics.Metrics;
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики {@link CustomArrayList}: число перевыделений внутреннего массива, байты, скопированные
+ * Arrays.copyOf/System.arraycopy, и незанятая емкость (getCapacity() - size()) живых списков.
+ * <p>
+ * Собираются только при {@link Metrics#ENABLED}; тогда MBean регистрируется как {@code com.bogdan:type=ListMetrics}.
+ * Счетчики - {@link LongAdder}, поэтому учет из многих потоков не упирается в одну ячейку памяти.
+ * Байты считаются по размеру ссылки в этой JVM (4 при сжатых указателях, иначе 8).
+ * Незанятая емкость вычисляется при чтении обходом слабых ссылок на созданные списки; списки читаются без
+ * синхронизации, поэтому значение приблизительное, если списки в это время меняются.
+ */
+public final class ListMetrics implements ListMetricsMBean {
+    private static final ListMetrics INSTANCE = new ListMetrics();
+    private static final int REFERENCE_SIZE = Metrics.ENABLED ? referenceSize() : 0;
+
+    static {
+        if (Metrics.ENABLED) {
+            Metrics.register("ListMetrics", INSTANCE);
+        }
+    }
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder trims = new LongAdder();
+    private final LongAdder copiedBytes = new LongAdder();
+    private final Set<TrackedList> lists = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<CustomArrayList<?>> collected = new ReferenceQueue<>();
+
+    private ListMetrics() {
+    }
+
+    /**
+     * @return метрики списков этой JVM; при выключенных метриках все значения нулевые
+     */
+    public static ListMetrics get() {
+        return INSTANCE;
+    }
+
+    static void track(CustomArrayList<?> list) {
+        INSTANCE.expungeCollected();
+        INSTANCE.lists.add(new TrackedList(list, INSTANCE.collected));
+    }
+
+    static void resized(int copiedElements) {
+        INSTANCE.resizes.increment();
+        copied(copiedElements);
+    }
+
+    static void trimmed(int copiedElements) {
+        INSTANCE.trims.increment();
+        copied(copiedElements);
+    }
+
+    static void copied(int elements) {
+        INSTANCE.copiedBytes.add((long) elements * REFERENCE_SIZE);
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getTrims() {
+        return trims.sum();
+    }
+
+    @Override
+    public long getCopiedBytes() {
+        return copiedBytes.sum();
+    }
+
+    @Override
+    public long getWastedCapacity() {
+        expungeCollected();
+        long wasted = 0;
+        for (TrackedList tracked : lists) {
+            CustomArrayList<?> list = tracked.get();
+            if (list != null) {
+                wasted += list.wastedCapacity();
+            }
+        }
+        return wasted;
+    }
+
+    @Override
+    public long getWastedBytes() {
+        return getWastedCapacity() * REFERENCE_SIZE;
+    }
+
+    @Override
+    public int getTrackedLists() {
+        expungeCollected();
+        return lists.size();
+    }
+
+    @Override
+    public void reset() {
+        resizes.reset();
+        trims.reset();
+        copiedBytes.reset();
+    }
+
+    private void expungeCollected() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            lists.remove(reference);
+        }
+    }
+
+    private static int referenceSize() {
+        try {
+            HotSpotDiagnosticMXBean diagnostic = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(diagnostic.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (RuntimeException e) {
+            return 8;
+        }
+    }
+
+    /**
+     * Слабая ссылка на список, равенство по ссылке: equals/hashCode самого списка зависят от его содержимого.
+     */
+    private static final class TrackedList extends WeakReference<CustomArrayList<?>> {
+        private final int hash;
+
+        private TrackedList(CustomArrayList<?> list, ReferenceQueue<CustomArrayList<?>> queue) {
+            super(list, queue);
+            this.hash = System.identityHashCode(list);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bogdan.list;
+
+/**
+ * JMX-интерфейс метрик {@link CustomArrayList}, см. {@link ListMetrics}.
+ */
+public interface ListMetricsMBean {
+    /**
+     * @return число увеличений внутреннего массива в ensureCapacity
+     */
+    long getResizes();
+
+    /**
+     * @return число уменьшений внутреннего массива в trimToSize и по {@link CapacityPolicy}
+     */
+    long getTrims();
+
+    /**
+     * @return байты ссылок, скопированные при перевыделении массива и сдвигах элементов
+     */
+    long getCopiedBytes();
+
+    /**
+     * @return сумма getCapacity() - size() по живым спискам
+     */
+    long getWastedCapacity();
+
+    /**
+     * @return {@link #getWastedCapacity()} в байтах ссылок
+     */
+    long getWastedBytes();
+
+    /**
+     * @return число живых списков, по которым считается незанятая емкость
+     */
+    int getTrackedLists();
+
+    /**
+     * Обнуляет счетчики; учет живых списков не сбрасывается.
+     */
+    void reset();
+}
@@ -0,0 +1,38 @@
+package com.bogdan.list;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Событие JFR о перевыделении внутреннего массива {@link CustomArrayList}: рост в ensureCapacity или уменьшение
+ * в trimToSize и по {@link CapacityPolicy}. По умолчанию записываются только перевыделения дольше 1 мс - это массивы в несколько мегабайт,
+ * а частые мелкие перевыделения горячих путей в запись не попадают. Порог меняется в настройках записи
+ * ({@code com.bogdan.ListResize#threshold}).
+ */
+@Name(ListResizeEvent.NAME)
+@Label("List Resize")
+@Category({"Bogdan", "Collections"})
+@Description("Reallocation of the CustomArrayList backing array")
+@Threshold("1 ms")
+@StackTrace
+final class ListResizeEvent extends Event {
+    static final String NAME = "com.bogdan.ListResize";
+
+    @Label("Trim")
+    @Description("True for trimToSize or a capacity policy shrink, false for growth in ensureCapacity")
+    boolean trim;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Size")
+    int size;
+}
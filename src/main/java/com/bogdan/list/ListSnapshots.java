@@ -0,0 +1,427 @@
+package com.bogdan.list;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Двоичные снимки списков для быстрого сохранения на диск и восстановления.
+ * <p>
+ * Снимок содержит только значения [0, size) без запаса емкости и без метаданных Java-сериализации:
+ * <pre>
+ * 0   int  MAGIC
+ * 4   int  VERSION
+ * 8   byte тип значений (int, long, double или записи RecordCodec)
+ * 9   byte флаги (сжатие блоков)
+ * 12  int  длина значения в байтах
+ * 16  int  длина блока в байтах
+ * 24  long количество значений
+ * 32  блоки
+ * </pre>
+ * Значения пишутся и читаются блоками (по умолчанию 1 МиБ) через один прямой ByteBuffer в порядке байт
+ * little-endian, поэтому примитивные массивы копируются в буфер и из него массовыми операциями, а канал получает
+ * крупные запросы - пропускная способность ограничивается диском, а не кодированием. Без сжатия блоки идут
+ * подряд без разметки; со сжатием ({@link BlockCompressor}) каждому блоку предшествует int с длиной сжатых байт.
+ * <p>
+ * При чтении количество значений известно из заголовка, поэтому внутренний массив создается сразу нужной длины
+ * и список не расширяется. Каналы не закрываются; позиция канала после записи или чтения указывает на конец
+ * снимка, так что в один файл можно писать несколько снимков подряд.
+ */
+public final class ListSnapshots {
+    static final int MAGIC = 0x534E4150;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_RECORD = 4;
+    private static final byte FLAG_COMPRESSED = 1;
+    /**
+     * Длина блока по умолчанию - 1 МиБ.
+     */
+    private static final int BLOCK_BYTES = 1 << 20;
+
+    private ListSnapshots() {
+    }
+
+    /**
+     * Записывает снимок списка int без сжатия.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @throws IOException при ошибке записи
+     */
+    public static void write(IntArrayList list, WritableByteChannel channel) throws IOException {
+        write(list, channel, null);
+    }
+
+    /**
+     * Записывает снимок списка int.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @param compressor - компрессор блоков или null для записи без сжатия
+     * @throws IOException при ошибке записи
+     */
+    public static void write(IntArrayList list, WritableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        IOException[] failure = new IOException[1];
+        list.applyToElements((elements, from, to) -> {
+            try {
+                writeSnapshot(channel, compressor, TYPE_INT, Integer.BYTES, to - from,
+                        (block, first, count) -> block.asIntBuffer().put(elements, from + first, count));
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        rethrow(failure[0]);
+    }
+
+    /**
+     * Записывает снимок списка long без сжатия.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @throws IOException при ошибке записи
+     */
+    public static void write(LongArrayList list, WritableByteChannel channel) throws IOException {
+        write(list, channel, null);
+    }
+
+    /**
+     * Записывает снимок списка long.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @param compressor - компрессор блоков или null для записи без сжатия
+     * @throws IOException при ошибке записи
+     */
+    public static void write(LongArrayList list, WritableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        IOException[] failure = new IOException[1];
+        list.applyToElements((elements, from, to) -> {
+            try {
+                writeSnapshot(channel, compressor, TYPE_LONG, Long.BYTES, to - from,
+                        (block, first, count) -> block.asLongBuffer().put(elements, from + first, count));
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        rethrow(failure[0]);
+    }
+
+    /**
+     * Записывает снимок списка double без сжатия.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @throws IOException при ошибке записи
+     */
+    public static void write(DoubleArrayList list, WritableByteChannel channel) throws IOException {
+        write(list, channel, null);
+    }
+
+    /**
+     * Записывает снимок списка double.
+     * @param list - сохраняемый список
+     * @param channel - канал назначения
+     * @param compressor - компрессор блоков или null для записи без сжатия
+     * @throws IOException при ошибке записи
+     */
+    public static void write(DoubleArrayList list, WritableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        IOException[] failure = new IOException[1];
+        list.applyToElements((elements, from, to) -> {
+            try {
+                writeSnapshot(channel, compressor, TYPE_DOUBLE, Double.BYTES, to - from,
+                        (block, first, count) -> block.asDoubleBuffer().put(elements, from + first, count));
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        rethrow(failure[0]);
+    }
+
+    /**
+     * Записывает снимок списка объектов, кодируя каждый элемент записью фиксированной длины.
+     * @param list - сохраняемый список
+     * @param codec - кодек элементов
+     * @param channel - канал назначения
+     * @throws IOException при ошибке записи
+     */
+    public static <T> void write(SimpleList<T> list, RecordCodec<T> codec, WritableByteChannel channel)
+            throws IOException {
+        write(list, codec, channel, null);
+    }
+
+    /**
+     * Записывает снимок списка объектов, кодируя каждый элемент записью фиксированной длины.
+     * @param list - сохраняемый список
+     * @param codec - кодек элементов
+     * @param channel - канал назначения
+     * @param compressor - компрессор блоков или null для записи без сжатия
+     * @throws IOException при ошибке записи
+     */
+    public static <T> void write(SimpleList<T> list, RecordCodec<T> codec, WritableByteChannel channel,
+                                 BlockCompressor compressor) throws IOException {
+        int recordSize = codec.recordSize();
+        Iterator<T> iterator = list.iterator();
+        writeSnapshot(channel, compressor, TYPE_RECORD, recordSize, list.size(), (block, first, count) -> {
+            for (int i = 0; i < count; i++) {
+                codec.write(block, i * recordSize, iterator.next());
+            }
+        });
+    }
+
+    /**
+     * Читает снимок списка int, записанный без сжатия.
+     * @param channel - исходный канал
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден, сжат или другого типа
+     */
+    public static IntArrayList readIntList(ReadableByteChannel channel) throws IOException {
+        return readIntList(channel, null);
+    }
+
+    /**
+     * Читает снимок списка int.
+     * @param channel - исходный канал
+     * @param compressor - компрессор, которым сжаты блоки, или null для снимка без сжатия
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден или другого типа
+     */
+    public static IntArrayList readIntList(ReadableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        int[] elements = new int[readHeader(channel, TYPE_INT, Integer.BYTES, compressor)];
+        readBlocks(channel, compressor, Integer.BYTES, elements.length,
+                (block, first, count) -> block.asIntBuffer().get(elements, first, count));
+        return IntArrayList.wrap(elements);
+    }
+
+    /**
+     * Читает снимок списка long, записанный без сжатия.
+     * @param channel - исходный канал
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден, сжат или другого типа
+     */
+    public static LongArrayList readLongList(ReadableByteChannel channel) throws IOException {
+        return readLongList(channel, null);
+    }
+
+    /**
+     * Читает снимок списка long.
+     * @param channel - исходный канал
+     * @param compressor - компрессор, которым сжаты блоки, или null для снимка без сжатия
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден или другого типа
+     */
+    public static LongArrayList readLongList(ReadableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        long[] elements = new long[readHeader(channel, TYPE_LONG, Long.BYTES, compressor)];
+        readBlocks(channel, compressor, Long.BYTES, elements.length,
+                (block, first, count) -> block.asLongBuffer().get(elements, first, count));
+        return LongArrayList.wrap(elements);
+    }
+
+    /**
+     * Читает снимок списка double, записанный без сжатия.
+     * @param channel - исходный канал
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден, сжат или другого типа
+     */
+    public static DoubleArrayList readDoubleList(ReadableByteChannel channel) throws IOException {
+        return readDoubleList(channel, null);
+    }
+
+    /**
+     * Читает снимок списка double.
+     * @param channel - исходный канал
+     * @param compressor - компрессор, которым сжаты блоки, или null для снимка без сжатия
+     * @return список с емкостью, равной количеству значений
+     * @throws IOException при ошибке чтения или если снимок поврежден или другого типа
+     */
+    public static DoubleArrayList readDoubleList(ReadableByteChannel channel, BlockCompressor compressor)
+            throws IOException {
+        double[] elements = new double[readHeader(channel, TYPE_DOUBLE, Double.BYTES, compressor)];
+        readBlocks(channel, compressor, Double.BYTES, elements.length,
+                (block, first, count) -> block.asDoubleBuffer().get(elements, first, count));
+        return DoubleArrayList.wrap(elements);
+    }
+
+    /**
+     * Читает снимок списка объектов, записанный без сжатия.
+     * @param channel - исходный канал
+     * @param codec - кодек элементов, которым записан снимок
+     * @return список с емкостью, равной количеству элементов
+     * @throws IOException при ошибке чтения или если снимок поврежден, сжат или другого типа
+     */
+    public static <T> CustomArrayList<T> readList(ReadableByteChannel channel, RecordCodec<T> codec)
+            throws IOException {
+        return readList(channel, codec, null);
+    }
+
+    /**
+     * Читает снимок списка объектов.
+     * @param channel - исходный канал
+     * @param codec - кодек элементов, которым записан снимок
+     * @param compressor - компрессор, которым сжаты блоки, или null для снимка без сжатия
+     * @return список с емкостью, равной количеству элементов
+     * @throws IOException при ошибке чтения или если снимок поврежден или другого типа
+     */
+    public static <T> CustomArrayList<T> readList(ReadableByteChannel channel, RecordCodec<T> codec,
+                                                  BlockCompressor compressor) throws IOException {
+        int recordSize = codec.recordSize();
+        int size = readHeader(channel, TYPE_RECORD, recordSize, compressor);
+        CustomArrayList<T> list = new CustomArrayList<>(size);
+        readBlocks(channel, compressor, recordSize, size, (block, first, count) -> {
+            for (int i = 0; i < count; i++) {
+                list.add(codec.read(block, i * recordSize));
+            }
+        });
+        return list;
+    }
+
+    private static void writeSnapshot(WritableByteChannel channel, BlockCompressor compressor, byte type,
+                                      int valueSize, int size, BlockAction fill) throws IOException {
+        Objects.requireNonNull(channel);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION)
+                .put(type).put(compressor == null ? (byte) 0 : FLAG_COMPRESSED).putShort((short) 0)
+                .putInt(valueSize).putInt(blockBytes(valueSize)).putInt(0)
+                .putLong(size)
+                .flip();
+        writeFully(channel, header);
+
+        int valuesPerBlock = blockBytes(valueSize) / valueSize;
+        ByteBuffer block = newBuffer(valuesPerBlock * valueSize);
+        ByteBuffer compressed = compressor == null ? null
+                : newBuffer(Integer.BYTES + compressor.maxCompressedLength(block.capacity()));
+        for (int first = 0; first < size; first += valuesPerBlock) {
+            int count = Math.min(valuesPerBlock, size - first);
+            block.clear();
+            fill.apply(block, first, count);
+            block.limit(count * valueSize);
+            if (compressor == null) {
+                writeFully(channel, block);
+            } else {
+                compressed.clear().position(Integer.BYTES);
+                compressor.compress(block, compressed);
+                compressed.putInt(0, compressed.position() - Integer.BYTES).flip();
+                writeFully(channel, compressed);
+            }
+        }
+    }
+
+    private static int readHeader(ReadableByteChannel channel, byte type, int valueSize, BlockCompressor compressor)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a list snapshot");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        byte storedType = header.get();
+        if (storedType != type) {
+            throw new IOException("Snapshot type mismatch: expected " + type + ", found " + storedType);
+        }
+        boolean compressed = (header.get() & FLAG_COMPRESSED) != 0;
+        if (compressed && compressor == null) {
+            throw new IOException("Snapshot is compressed, a BlockCompressor is required");
+        }
+        if (!compressed && compressor != null) {
+            throw new IOException("Snapshot is not compressed");
+        }
+        header.getShort();
+        int storedValueSize = header.getInt();
+        if (storedValueSize != valueSize) {
+            throw new IOException("Value size mismatch: snapshot has " + storedValueSize + ", expected " + valueSize);
+        }
+        int storedBlockBytes = header.getInt();
+        if (storedBlockBytes != blockBytes(valueSize)) {
+            throw new IOException("Unsupported block size: " + storedBlockBytes);
+        }
+        header.getInt();
+        long size = header.getLong();
+        if (size < 0 || size > Capacities.SOFT_MAX_ARRAY_LENGTH) {
+            throw new IOException("Illegal snapshot size: " + size);
+        }
+        return (int) size;
+    }
+
+    private static void readBlocks(ReadableByteChannel channel, BlockCompressor compressor, int valueSize, int size,
+                                   BlockAction drain) throws IOException {
+        int valuesPerBlock = blockBytes(valueSize) / valueSize;
+        ByteBuffer block = newBuffer(valuesPerBlock * valueSize);
+        ByteBuffer compressed = compressor == null ? null
+                : newBuffer(compressor.maxCompressedLength(block.capacity()));
+        ByteBuffer length = compressor == null ? null : newBuffer(Integer.BYTES);
+        for (int first = 0; first < size; first += valuesPerBlock) {
+            int count = Math.min(valuesPerBlock, size - first);
+            block.clear().limit(count * valueSize);
+            if (compressor == null) {
+                readFully(channel, block);
+            } else {
+                length.clear();
+                readFully(channel, length);
+                int compressedLength = length.getInt(0);
+                if (compressedLength < 0 || compressedLength > compressed.capacity()) {
+                    throw new IOException("Corrupted block length: " + compressedLength);
+                }
+                compressed.clear().limit(compressedLength);
+                readFully(channel, compressed);
+                compressed.flip();
+                compressor.decompress(compressed, block);
+            }
+            block.flip();
+            drain.apply(block, first, count);
+        }
+    }
+
+    /**
+     * Длина блока, кратная длине значения.
+     */
+    private static int blockBytes(int valueSize) {
+        return Math.max(1, BLOCK_BYTES / valueSize) * valueSize;
+    }
+
+    private static ByteBuffer newBuffer(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of snapshot");
+            }
+        }
+    }
+
+    private static void rethrow(IOException failure) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Заполнение блока значениями или разбор значений из блока.
+     */
+    @FunctionalInterface
+    private interface BlockAction {
+        /**
+         * @param block буфер блока с position 0
+         * @param first индекс первого значения блока в списке
+         * @param count количество значений в блоке
+         */
+        void apply(ByteBuffer block, int first, int count);
+    }
+}
@@ -0,0 +1,370 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Список примитивных значений long с изменяемым размером массива. Повторяет операции {@link SimpleList},
+ * но хранит значения в массиве long[], поэтому ни добавление, ни чтение, ни итерация не упаковывают значения в
+ * Long. Для сортировки без Comparator используется {@code com.bogdan.sorting.PrimitiveSorter}, которому
+ * внутренний массив открывается методом {@link #applyToElements(ElementsAction)}.
+ */
+public class LongArrayList {
+    /**
+     * Величина внутреннего массива, при вызове конструктора без аргументов.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Пустой массив используется при нулевой емкости.
+     */
+    private static final long[] EMPTY_ELEMENTS = {};
+    /**
+     * Внутренний массив для хранения значений
+     */
+    private long[] elements;
+    /**
+     * Количество значений находящихся в массиве
+     */
+    private int size;
+
+    /**
+     * Конструктор по умолчанию
+     */
+    public LongArrayList() {
+        this.elements = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор принимающий величину внутреннего массива
+     * @param initCapacity - задаваемая величина внутреннего массива
+     */
+    public LongArrayList(int initCapacity) {
+        if (initCapacity > 0) {
+            this.elements = new long[initCapacity];
+        } else if (initCapacity == 0) {
+            this.elements = EMPTY_ELEMENTS;
+        } else {
+            throw new IllegalArgumentException("Illegal size: " + initCapacity);
+        }
+    }
+
+    /**
+     * Конструктор копирующий значения из массива.
+     * @param values - значения списка
+     */
+    public LongArrayList(long[] values) {
+        this.size = values.length;
+        this.elements = size == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Создает список, который использует переданный массив как внутренний без копирования.
+     * @param elements - значения списка; вызывающий не должен использовать массив после вызова
+     * @return список размером elements.length
+     */
+    static LongArrayList wrap(long[] elements) {
+        LongArrayList list = new LongArrayList(0);
+        list.elements = elements.length == 0 ? EMPTY_ELEMENTS : elements;
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Метод для получения величины емкости внутреннего массива
+     * @return величину длинны внутреннего массива
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Метод для удаления пустых ячеек внутреннего массива
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = (size == 0) ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Добавляет значение в конец списка.
+     * @param element - добавляемое значение
+     * @return true если значение успешно добавлено
+     */
+    public boolean add(long element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+        return true;
+    }
+
+    /**
+     * Вставляет значение по индексу, сдвигая последующие значения вправо.
+     * @param index - позиция вставки, от 0 до size включительно
+     * @param element - добавляемое значение
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public void add(int index, long element) {
+        checkRangeForAdd(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Заменяет значение по индексу.
+     * @param index - позиция значения
+     * @param element - новое значение
+     * @return значение, ранее находившееся в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public long set(int index, long element) {
+        checkRange(index);
+        long oldValue = elements[index];
+        elements[index] = element;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает значение по индексу.
+     * @param index - позиция значения
+     * @return значение в указанной позиции
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public long get(int index) {
+        checkRange(index);
+        return elements[index];
+    }
+
+    /**
+     * Удаляет значение по индексу, сдвигая последующие значения влево.
+     * @param index - позиция удаляемого значения
+     * @return удаленное значение
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public long remove(int index) {
+        checkRange(index);
+        long oldValue = elements[index];
+        fastRemove(index);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение значения.
+     * @param element - удаляемое значение
+     * @return true если значение найдено и удалено
+     */
+    public boolean removeElement(long element) {
+        int index = indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+        fastRemove(index);
+        return true;
+    }
+
+    /**
+     * Ищет первое вхождение значения.
+     * @param element - искомое значение
+     * @return индекс первого вхождения или -1, если значения нет в списке
+     */
+    public int indexOf(long element) {
+        return PrimitiveKernels.INSTANCE.indexOf(elements, 0, size, element);
+    }
+
+    /**
+     * Проверяет, есть ли значение в списке.
+     * @param element - искомое значение
+     * @return true если значение есть в списке
+     */
+    public boolean contains(long element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Считает вхождения значения.
+     * @param element - искомое значение
+     * @return число вхождений
+     */
+    public int count(long element) {
+        return PrimitiveKernels.INSTANCE.count(elements, 0, size, element);
+    }
+
+    /**
+     * Возвращает наименьшее значение списка.
+     * @return наименьшее значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long min() {
+        checkNotEmpty();
+        return PrimitiveKernels.INSTANCE.min(elements, 0, size);
+    }
+
+    /**
+     * Возвращает наибольшее значение списка.
+     * @return наибольшее значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long max() {
+        checkNotEmpty();
+        return PrimitiveKernels.INSTANCE.max(elements, 0, size);
+    }
+
+    /**
+     * Возвращает сумму значений списка. При переполнении результат берется по модулю 2^64, как при сложении long.
+     * @return сумма значений, 0 для пустого списка
+     */
+    public long sum() {
+        return PrimitiveKernels.INSTANCE.sum(elements, 0, size);
+    }
+
+    /**
+     * Удаляет все значения из списка.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Проверяет является ли список пустым
+     * @return true если список пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает количество значений в списке
+     * @return число значений в списке
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает копию значений списка.
+     * @return массив длиной size
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Возвращает итератор по значениям списка без упаковки (методом {@link PrimitiveIterator.OfLong#nextLong()}).
+     * @return итератор по значениям в порядке индексов
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongIterator();
+    }
+
+    /**
+     * Передает действию внутренний массив и диапазон [0, size) со значениями списка. Действие может читать и
+     * переставлять значения диапазона, но не должно сохранять ссылку на массив или изменять размер списка.
+     * @param action действие над массивом значений
+     */
+    public void applyToElements(ElementsAction action) {
+        action.apply(elements, 0, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int oldCapacity = elements.length;
+            int newSize = Capacities.newLength(oldCapacity, capacity - oldCapacity, oldCapacity >> 1);
+            elements = Arrays.copyOf(elements, newSize);
+        }
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    private void fastRemove(int index) {
+        final int newSize = size - 1;
+        if (newSize > index) {
+            System.arraycopy(elements, index + 1, elements, index, newSize - index);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Метод для сравнения объектов, сравниваются только значения в диапазоне [0, size)
+     * @param obj - объект для сравнения
+     * @return true если объекты равны
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        LongArrayList that = (LongArrayList) obj;
+        return Arrays.equals(elements, 0, size, that.elements, 0, that.size);
+    }
+
+    /**
+     * Метод для вычисления хеш-кода объекта
+     * @return возвращает хеш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Действие над диапазоном внутреннего массива списка.
+     */
+    @FunctionalInterface
+    public interface ElementsAction {
+        /**
+         * @param elements внутренний массив списка
+         * @param from первый индекс диапазона, включительно
+         * @param to последний индекс диапазона, не включительно
+         */
+        void apply(long[] elements, int from, int to);
+    }
+
+    /**
+     * Итератор по значениям списка
+     */
+    private class LongIterator implements PrimitiveIterator.OfLong {
+        /**
+         * Позиция значения в списке
+         */
+        private int current = 0;
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[current++];
+        }
+    }
+}
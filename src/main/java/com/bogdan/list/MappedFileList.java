@@ -0,0 +1,190 @@
+package com.bogdan.list;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Постоянная (persistent) реализация SimpleList для элементов фиксированной длины, хранящая записи
+ * {@link RecordCodec} в файле, отображенном в память через {@link FileChannel#map}.
+ * <p>
+ * Файл состоит из заголовка и непрерывного массива записей:
+ * <pre>
+ * 0   int  MAGIC
+ * 4   int  VERSION
+ * 8   int  recordSize
+ * 16  long size
+ * 64  записи 0..size-1, по recordSize байт
+ * </pre>
+ * Массив записей отображается регионами одинакового размера (по умолчанию около 64 МиБ), каждый регион -
+ * это блок {@link AbstractRecordList}. Список растет, отображая следующий регион, при этом файл удлиняется;
+ * уже отображенные регионы не переотображаются и не копируются.
+ * <p>
+ * Размер записывается в заголовок при каждом изменении, после самих записей, поэтому повторное открытие
+ * ({@link #open(Path, RecordCodec)}) только проверяет заголовок и отображает нужные регионы - данные не читаются
+ * и не десериализуются, и открытие списка из десятков миллионов элементов занимает миллисекунды. Страницы
+ * подгружаются операционной системой при первом обращении. Изменения попадают на диск при {@link #force()},
+ * {@link #close()} или по усмотрению операционной системы. Экземпляр не потокобезопасен.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class MappedFileList<T> extends AbstractRecordList<T> implements Closeable {
+    /**
+     * Сигнатура файла - "SLST".
+     */
+    static final int MAGIC = 0x534C5354;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    /**
+     * Целевой размер региона в байтах - 64 МиБ.
+     */
+    private static final int DEFAULT_REGION_BYTES = 1 << 26;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+
+    private MappedFileList(FileChannel channel, RecordCodec<T> codec, int regionBytes) throws IOException {
+        super(codec, regionBytes);
+        this.channel = channel;
+        boolean created = channel.size() == 0;
+        if (!created && channel.size() < HEADER_SIZE) {
+            throw new IOException("File is too short for a list header: " + channel.size());
+        }
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (created) {
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(RECORD_SIZE_OFFSET, recordSize);
+            header.putLong(SIZE_OFFSET, 0);
+        } else {
+            readHeader();
+        }
+    }
+
+    /**
+     * Открывает список в файле или создает новый пустой список, если файла нет или он пуст. Регионы около 64 МиБ.
+     * @param path - путь к файлу
+     * @param codec - кодек элементов; длина записи должна совпадать с записанной в заголовке
+     * @return открытый список
+     * @throws IOException если файл нельзя открыть или он не является файлом списка с такой длиной записи
+     */
+    public static <T> MappedFileList<T> open(Path path, RecordCodec<T> codec) throws IOException {
+        return open(path, codec, DEFAULT_REGION_BYTES);
+    }
+
+    /**
+     * Открывает список в файле или создает новый пустой список, если файла нет или он пуст.
+     * @param path - путь к файлу
+     * @param codec - кодек элементов; длина записи должна совпадать с записанной в заголовке
+     * @param regionBytes - целевой размер отображаемого региона в байтах; на формат файла не влияет
+     * @return открытый список
+     * @throws IOException если файл нельзя открыть или он не является файлом списка с такой длиной записи
+     */
+    public static <T> MappedFileList<T> open(Path path, RecordCodec<T> codec, int regionBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedFileList<>(channel, codec, regionBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a list file");
+        }
+        int version = header.getInt(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IOException("Unsupported list file version: " + version);
+        }
+        int storedRecordSize = header.getInt(RECORD_SIZE_OFFSET);
+        if (storedRecordSize != recordSize) {
+            throw new IOException("Record size mismatch: file has " + storedRecordSize
+                    + ", codec has " + recordSize);
+        }
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > (channel.size() - HEADER_SIZE) / recordSize) {
+            throw new IOException("Corrupted list size: " + storedSize);
+        }
+        ensureCapacity(storedSize);
+        size = (int) storedSize;
+    }
+
+    @Override
+    ByteBuffer newChunk(int chunkIndex) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + (long) chunkIndex * chunkBytes(), chunkBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Снимает отображение региона сразу, а не при сборке мусора.
+     */
+    @Override
+    void freeChunk(ByteBuffer chunk) {
+        DirectBuffers.free(chunk);
+    }
+
+    @Override
+    void sizeChanged() {
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Освобождает регионы, не содержащие записей, и укорачивает файл до последнего используемого региона.
+     * @throws UncheckedIOException если файл не удалось укоротить
+     */
+    @Override
+    public void trimToSize() {
+        super.trimToSize();
+        try {
+            channel.truncate(HEADER_SIZE + (long) chunkCount * chunkBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Принудительно записывает на диск все изменения записей и заголовка.
+     */
+    public void force() {
+        checkOpen();
+        for (int i = 0; i < chunkCount; i++) {
+            ((MappedByteBuffer) chunks[i]).force();
+        }
+        header.force();
+    }
+
+    /**
+     * Записывает изменения на диск и закрывает файл. Повторный вызов ничего не делает; любые другие операции
+     * после закрытия выбрасывают IllegalStateException.
+     * @throws IOException если файл не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed()) {
+            return;
+        }
+        try {
+            force();
+        } finally {
+            release();
+            DirectBuffers.free(header);
+            channel.close();
+        }
+    }
+}
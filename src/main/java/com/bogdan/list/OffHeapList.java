@@ -0,0 +1,65 @@
+package com.bogdan.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Реализация SimpleList для элементов фиксированной длины, хранящая их вне кучи Java.
+ * Каждый элемент кодируется {@link RecordCodec} в запись из recordSize байт; записи лежат в блоках прямой
+ * (direct) памяти одинакового размера, по 2^k записей в блоке, и адресуются как в {@link ChunkedArrayList}:
+ * блок {@code index >>> shift}, запись в блоке {@code index & mask}. В куче остаются только каталог блоков и
+ * один объект ByteBuffer на блок (по умолчанию блок около 1 МиБ), поэтому сотни миллионов записей не создают
+ * объектов, которые сборщику мусора пришлось бы обходить, и паузы GC не растут с размером списка.
+ * <p>
+ * get возвращает новый объект, декодированный из записи, а set/add кодируют переданный элемент; изменение объекта
+ * после добавления не отражается в списке. Вставка и удаление в середине сдвигают записи хвоста, O(n - index).
+ * <p>
+ * Память освобождается явно, без ожидания сборки мусора: методом {@link #close()} - вся, после чего список
+ * непригоден для использования, и методом {@link #trimToSize()} - блоки без записей. {@code Arena} (FFM API)
+ * требует флага --enable-preview на Java 21, поэтому используются прямые ByteBuffer, освобождаемые через
+ * {@link DirectBuffers}. Экземпляр не потокобезопасен.
+ *
+ * @param <T> - указывает тип элемента в списке.
+ */
+public class OffHeapList<T> extends AbstractRecordList<T> implements AutoCloseable {
+    /**
+     * Целевой размер блока в байтах - 1 МиБ.
+     */
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    /**
+     * Конструктор принимающий кодек элементов, блоки около 1 МиБ.
+     * @param codec - кодек элементов фиксированной длины
+     */
+    public OffHeapList(RecordCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Конструктор принимающий кодек элементов и целевой размер блока.
+     * @param codec - кодек элементов фиксированной длины
+     * @param chunkBytes - целевой размер блока в байтах; в блок помещается наибольшая степень двойки записей,
+     *                   умещающаяся в этот размер, но не меньше одной записи
+     */
+    public OffHeapList(RecordCodec<T> codec, int chunkBytes) {
+        super(codec, chunkBytes);
+    }
+
+    @Override
+    ByteBuffer newChunk(int chunkIndex) {
+        return ByteBuffer.allocateDirect(chunkBytes());
+    }
+
+    @Override
+    void freeChunk(ByteBuffer chunk) {
+        DirectBuffers.free(chunk);
+    }
+
+    /**
+     * Сразу освобождает всю память блоков списка. Повторный вызов ничего не делает; любые другие операции после закрытия
+     * выбрасывают IllegalStateException.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+}
@@ -0,0 +1,468 @@
+package com.bogdan.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Неизменяемый персистентный вектор - префиксное дерево с ветвлением 32 и отдельным хвостом.
+ * <p>
+ * Элементы лежат в листьях по 32 штуки, индекс элемента делится на группы по 5 бит, каждая группа выбирает
+ * потомка на своем уровне; последние до 32 элементов хранятся отдельным массивом (хвостом), поэтому добавление
+ * в конец обычно копирует только хвост. get стоит O(log32 n) - не больше 6 переходов для любого int-индекса,
+ * а set, add и removeLast возвращают новую версию, копируя только путь от корня до изменяемого листа
+ * (O(log32 n) массивов по 32 ссылки). Остальные узлы общие у старой и новой версии, поэтому снимок для
+ * передачи читателям в другие потоки ничего не стоит: сам вектор и есть снимок, и он безопасно публикуется
+ * через final поля.
+ * <p>
+ * Удаление из середины в таком дереве не сводится к копированию пути и стоит O(n). Для построения вектора
+ * из большого числа элементов используется {@link Builder}, который заполняет узлы на месте за O(n), а
+ * {@link #copyOf(SimpleList)} и {@link #toCustomArrayList()} переводят данные между вектором и
+ * {@link CustomArrayList} за O(n).
+ *
+ * @param <T> - указывает тип элемента в векторе.
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    /**
+     * Сдвиг индекса для выбора потомка корня: BITS * (высота дерева)
+     */
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return пустой вектор
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * @return новый строитель вектора
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Строит вектор из элементов списка за O(n). Элементы списков на массиве копируются в листья блоками.
+     * @param list - исходный список
+     * @return вектор с теми же элементами в том же порядке
+     */
+    public static <T> PersistentVector<T> copyOf(SimpleList<? extends T> list) {
+        Builder<T> builder = new Builder<>();
+        builder.addAll(list);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     * @param index - позиция элемента
+     * @return элемент по индексу
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkRange(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Возвращает новую версию вектора с замененным элементом; текущая версия не изменяется.
+     * @param index - позиция элемента
+     * @param element - новый элемент
+     * @return новая версия вектора
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public PersistentVector<T> set(int index, T element) {
+        checkRange(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setInPath(shift, root, index, element), tail);
+    }
+
+    /**
+     * Возвращает новую версию вектора с элементом, добавленным в конец; текущая версия не изменяется.
+     * @param element - добавляемый элемент
+     * @return новая версия вектора
+     */
+    public PersistentVector<T> add(T element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // корень заполнен - дерево становится на уровень выше
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tail, false);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Возвращает новую версию вектора без последнего элемента; текущая версия не изменяется.
+     * @return новая версия вектора
+     * @throws IllegalStateException если вектор пуст
+     */
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Vector is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Возвращает новую версию вектора без элемента по индексу. Удаление последнего элемента стоит O(log32 n),
+     * из середины - O(n), так как все последующие элементы сдвигаются и дерево строится заново.
+     * @param index - позиция удаляемого элемента
+     * @return новая версия вектора
+     * @throws IllegalArgumentException если индекс выходит за пределы диапазона
+     */
+    public PersistentVector<T> remove(int index) {
+        checkRange(index);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Builder<T> builder = new Builder<>();
+        forEachLeaf((leaf, first, count) -> {
+            int from = Math.max(0, Math.min(count, index - first));
+            builder.addAll(leaf, 0, from);
+            int skip = index >= first && index < first + count ? 1 : 0;
+            builder.addAll(leaf, from + skip, count - from - skip);
+        });
+        return builder.build();
+    }
+
+    /**
+     * Копирует элементы в новый {@link CustomArrayList} точной емкости за O(n).
+     * @return изменяемая копия вектора
+     */
+    public CustomArrayList<T> toCustomArrayList() {
+        CustomArrayList<T> list = new CustomArrayList<>(size);
+        forEachLeaf((leaf, first, count) -> {
+            for (int i = 0; i < count; i++) {
+                @SuppressWarnings("unchecked") T element = (T) leaf[i];
+                list.add(element);
+            }
+        });
+        return list;
+    }
+
+    /**
+     * Возвращает итератор, проходящий вектор по листьям.
+     * @return итератор в порядке индексов
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int current = 0;
+            private Object[] leaf = size == 0 ? null : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (current > 0 && (current & MASK) == 0) {
+                    leaf = leafFor(current);
+                }
+                return (T) leaf[current++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * @return последовательный поток по элементам вектора
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Векторы равны, если равны их элементы в одном порядке.
+     * @param obj - объект для сравнения
+     * @return true если объекты равны
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PersistentVector<?> that) || size != that.size) return false;
+        Iterator<?> other = that.iterator();
+        for (T element : this) {
+            if (!Objects.equals(element, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + Objects.hashCode(element);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Индекс первого элемента хвоста
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void forEachLeaf(LeafAction action) {
+        int tailOffset = tailOffset();
+        for (int first = 0; first < tailOffset; first += WIDTH) {
+            action.apply(leafFor(first), first, WIDTH);
+        }
+        action.apply(tail, tailOffset, size - tailOffset);
+    }
+
+    private static Object[] setInPath(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = setInPath(level - BITS, (Object[]) node[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Вставляет полный хвост как новый лист. При inPlace узлы изменяются на месте (только в строителе,
+     * которому они принадлежат), иначе путь копируется.
+     * @param size - количество элементов вместе с вставляемым хвостом
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tail, boolean inPlace) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] result = inPlace ? parent : parent.clone();
+        Object insert;
+        if (level == BITS) {
+            insert = tail;
+        } else {
+            Object[] existing = (Object[]) parent[child];
+            insert = existing != null
+                    ? pushTail(size, level - BITS, existing, tail, inPlace)
+                    : newPath(level - BITS, tail);
+        }
+        result[child] = insert;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Удаляет последний лист дерева, копируя путь; возвращает null, если узел стал пустым.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int child = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[child] = newChild;
+            return copy;
+        } else if (child == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[child] = null;
+        return copy;
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Illegal index: " + index);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LeafAction {
+        void apply(Object[] leaf, int first, int count);
+    }
+
+    /**
+     * Изменяемый строитель вектора. Узлы, которые создает строитель, принадлежат только ему и заполняются на
+     * месте, поэтому построение вектора из n элементов стоит O(n) без копирования путей. После {@link #build()}
+     * узлы переходят к вектору, а строитель начинает новый пустой вектор. Строитель не потокобезопасен.
+     *
+     * @param <T> - указывает тип элемента в векторе.
+     */
+    public static final class Builder<T> {
+        private Object[] root;
+        private int shift;
+        private Object[] tail;
+        private int size;
+
+        private Builder() {
+            reset();
+        }
+
+        /**
+         * Добавляет элемент в конец строящегося вектора.
+         * @param element - добавляемый элемент
+         * @return этот строитель
+         */
+        public Builder<T> add(T element) {
+            if ((size & MASK) == 0 && size > 0) {
+                pushFullTail();
+            }
+            tail[size++ & MASK] = element;
+            return this;
+        }
+
+        /**
+         * Добавляет все элементы списка. Элементы списков на массиве копируются блоками по 32.
+         * @param list - добавляемые элементы
+         * @return этот строитель
+         */
+        public Builder<T> addAll(SimpleList<? extends T> list) {
+            if (list instanceof ArrayBackedList<? extends T> arrayBacked) {
+                arrayBacked.applyToElements((elements, from, to) -> addAll(elements, from, to - from));
+            } else {
+                for (T element : list) {
+                    add(element);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Создает вектор из добавленных элементов и сбрасывает строитель.
+         * @return новый вектор
+         */
+        public PersistentVector<T> build() {
+            if (size == 0) {
+                return empty();
+            }
+            int tailCount = size - ((size - 1) >>> BITS << BITS);
+            PersistentVector<T> vector = new PersistentVector<>(size, shift,
+                    root, tailCount == WIDTH ? tail : Arrays.copyOf(tail, tailCount));
+            reset();
+            return vector;
+        }
+
+        private void addAll(Object[] elements, int from, int count) {
+            int offset = from;
+            int remaining = count;
+            while (remaining > 0) {
+                if ((size & MASK) == 0 && size > 0) {
+                    pushFullTail();
+                }
+                int position = size & MASK;
+                int chunk = Math.min(remaining, WIDTH - position);
+                System.arraycopy(elements, offset, tail, position, chunk);
+                size += chunk;
+                offset += chunk;
+                remaining -= chunk;
+            }
+        }
+
+        private void pushFullTail() {
+            if ((size >>> BITS) > (1 << shift)) {
+                Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, tail);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(size, shift, root, tail, true);
+            }
+            tail = new Object[WIDTH];
+        }
+
+        private void reset() {
+            root = new Object[WIDTH];
+            shift = BITS;
+            tail = new Object[WIDTH];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.bogdan.list;
+
+/**
+ * Массовые операции над диапазонами примитивных массивов для {@link IntArrayList}, {@link LongArrayList} и
+ * {@link DoubleArrayList}. Все методы работают с диапазоном [from, to); min и max вызываются только для
+ * непустого диапазона.
+ * <p>
+ * Реализации: {@link ScalarKernels} - обычные циклы, и VectorKernels - SIMD на Vector API
+ * ({@code jdk.incubator.vector}). Используемая реализация выбирается один раз в {@link #INSTANCE}: векторная,
+ * если модуль подключен к JVM ({@code --add-modules jdk.incubator.vector}) и не задано системное свойство
+ * {@value #SCALAR_PROPERTY}, иначе скалярная. Результаты реализаций совпадают, кроме суммы double: порядок
+ * сложения у векторной реализации другой, и сумма может отличаться в младших разрядах.
+ */
+interface PrimitiveKernels {
+    /**
+     * Системное свойство, при значении true отключающее векторную реализацию.
+     */
+    String SCALAR_PROPERTY = "com.bogdan.list.scalarKernels";
+
+    PrimitiveKernels INSTANCE = Loader.load();
+
+    int indexOf(int[] elements, int from, int to, int value);
+
+    int count(int[] elements, int from, int to, int value);
+
+    int min(int[] elements, int from, int to);
+
+    int max(int[] elements, int from, int to);
+
+    /**
+     * @return сумма значений в long, без переполнения int
+     */
+    long sum(int[] elements, int from, int to);
+
+    int indexOf(long[] elements, int from, int to, long value);
+
+    int count(long[] elements, int from, int to, long value);
+
+    long min(long[] elements, int from, int to);
+
+    long max(long[] elements, int from, int to);
+
+    long sum(long[] elements, int from, int to);
+
+    /**
+     * Значения сравниваются как в {@link Double#doubleToLongBits}: NaN равен NaN, -0.0 не равен 0.0.
+     */
+    int indexOf(double[] elements, int from, int to, double value);
+
+    /**
+     * Значения сравниваются как в {@link #indexOf(double[], int, int, double)}.
+     */
+    int count(double[] elements, int from, int to, double value);
+
+    /**
+     * @return наименьшее значение в смысле {@link Math#min(double, double)}: NaN, если в диапазоне есть NaN
+     */
+    double min(double[] elements, int from, int to);
+
+    /**
+     * @return наибольшее значение в смысле {@link Math#max(double, double)}: NaN, если в диапазоне есть NaN
+     */
+    double max(double[] elements, int from, int to);
+
+    double sum(double[] elements, int from, int to);
+
+    /**
+     * Выбор реализации при инициализации интерфейса.
+     */
+    final class Loader {
+        private static final String VECTOR_MODULE = "jdk.incubator.vector";
+        private static final String VECTOR_KERNELS = "com.bogdan.list.VectorKernels";
+
+        private Loader() {
+        }
+
+        static PrimitiveKernels load() {
+            if (!Boolean.getBoolean(SCALAR_PROPERTY) && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+                try {
+                    // класс загружается по имени, чтобы без модуля не было ссылок на jdk.incubator.vector
+                    return (PrimitiveKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    return new ScalarKernels();
+                }
+            }
+            return new ScalarKernels();
+        }
+    }
+}
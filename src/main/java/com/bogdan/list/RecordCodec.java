@@ -0,0 +1,100 @@
+package com.bogdan.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированной длины для списков, хранящих элементы в виде байтов вне кучи.
+ * Каждый элемент записывается в буфер как запись из ровно {@link #recordSize()} байт по абсолютному смещению,
+ * позиция и лимит буфера при этом не используются и не изменяются.
+ *
+ * @param <T> - тип кодируемого элемента
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * @return длину записи в байтах, одинаковую для всех элементов
+     */
+    int recordSize();
+
+    /**
+     * Записывает элемент в буфер.
+     * @param buffer буфер назначения
+     * @param offset смещение записи в буфере
+     * @param element записываемый элемент
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Читает элемент из буфера.
+     * @param buffer исходный буфер
+     * @param offset смещение записи в буфере
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * @return кодек Integer в 4 байта; null не поддерживается
+     */
+    static RecordCodec<Integer> ofInt() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * @return кодек Long в 8 байт; null не поддерживается
+     */
+    static RecordCodec<Long> ofLong() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long element) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * @return кодек Double в 8 байт; null не поддерживается
+     */
+    static RecordCodec<Double> ofDouble() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double element) {
+                buffer.putDouble(offset, element);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
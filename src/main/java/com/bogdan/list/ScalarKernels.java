@@ -0,0 +1,154 @@
+package com.bogdan.list;
+
+/**
+ * Скалярная реализация {@link PrimitiveKernels} - обычные циклы по массиву. Используется, когда Vector API
+ * недоступен, и для хвостов диапазонов, не кратных длине вектора, в векторной реализации.
+ */
+class ScalarKernels implements PrimitiveKernels {
+
+    @Override
+    public int indexOf(int[] elements, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] elements, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (elements[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] elements, int from, int to) {
+        int min = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] elements, int from, int to) {
+        int max = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(int[] elements, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOf(long[] elements, int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] elements, int from, int to, long value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (elements[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long min(long[] elements, int from, int to) {
+        long min = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] elements, int from, int to) {
+        long max = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(long[] elements, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOf(double[] elements, int from, int to, double value) {
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(double[] elements, int from, int to, double value) {
+        final long bits = Double.doubleToLongBits(value);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double min(double[] elements, int from, int to) {
+        double min = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] elements, int from, int to) {
+        double max = elements[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public double sum(double[] elements, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+}
@@ -1,5 +1,12 @@
 package com.bogdan.list;
 
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface SimpleList<T> extends Iterable<T> {
     boolean add(T element);
 
@@ -20,4 +27,101 @@ public interface SimpleList<T> extends Iterable<T> {
     int size();
 
     void trimToSize();
+
+    /**
+     * Добавляет все элементы коллекции в конец списка в порядке ее итератора.
+     * Реализация по умолчанию добавляет элементы по одному.
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     */
+    default boolean addAll(Collection<? extends T> collection) {
+        for (T element : collection) {
+            add(element);
+        }
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Вставляет все элементы коллекции начиная с указанной позиции, сдвигая последующие элементы вправо.
+     * Реализация по умолчанию вставляет элементы по одному.
+     * @param index позиция вставки первого элемента
+     * @param collection добавляемые элементы
+     * @return true если список изменился
+     */
+    default boolean addAll(int index, Collection<? extends T> collection) {
+        int position = index;
+        for (T element : collection) {
+            add(position++, element);
+        }
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex), сдвигая последующие элементы влево.
+     * Реализация по умолчанию удаляет элементы по одному с конца диапазона, поэтому для списков на массиве она
+     * стоит O(k·(n - toIndex) + k) при k удаляемых элементах: диапазон в конце списка удаляется за O(k), но хвост
+     * за диапазоном сдвигается k раз. Списки на массиве переопределяют метод одним сдвигом хвоста.
+     * @param fromIndex первый удаляемый индекс, включительно
+     * @param toIndex последний удаляемый индекс, не включительно
+     * @throws IllegalArgumentException если диапазон выходит за пределы списка
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Illegal range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию.
+     * Реализация по умолчанию удаляет элементы по одному.
+     * @param filter условие удаления
+     * @return true если был удален хотя бы один элемент
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в коллекции.
+     * @param collection элементы, которые нужно сохранить
+     * @return true если список изменился
+     */
+    default boolean retainAll(Collection<?> collection) {
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    /**
+     * Возвращает Spliterator по элементам списка. Реализация по умолчанию строится поверх итератора и
+     * знает размер списка ({@link Spliterator#SIZED}), но делится плохо; списки с произвольным доступом
+     * переопределяют метод сбалансированным делением.
+     * @return Spliterator по элементам в порядке индексов
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return последовательный поток элементов списка
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return параллельный поток элементов списка
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package com.bogdan.list;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация {@link PrimitiveKernels} на Vector API: диапазон обрабатывается векторами предпочтительной для
+ * процессора ширины, хвост короче вектора - скалярным кодом из {@link ScalarKernels}. Сумма int остается
+ * скалярной: C2 сам векторизует этот цикл, а явное расширение int в long через convertShape оказалось медленнее.
+ * <p>
+ * Класс ссылается на {@code jdk.incubator.vector} и загружается только через {@link PrimitiveKernels#INSTANCE},
+ * когда модуль подключен.
+ */
+final class VectorKernels extends ScalarKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(int[] elements, int from, int to, int value) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INTS, elements, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return super.indexOf(elements, i, to, value);
+    }
+
+    @Override
+    public int count(int[] elements, int from, int to, int value) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, elements, i).eq(value).trueCount();
+        }
+        return count + super.count(elements, i, to, value);
+    }
+
+    @Override
+    public int min(int[] elements, int from, int to) {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        if (i == bound) {
+            return super.min(elements, from, to);
+        }
+        IntVector min = IntVector.fromArray(INTS, elements, i);
+        for (i += INTS.length(); i < bound; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, elements, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        return i < to ? Math.min(result, super.min(elements, i, to)) : result;
+    }
+
+    @Override
+    public int max(int[] elements, int from, int to) {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        if (i == bound) {
+            return super.max(elements, from, to);
+        }
+        IntVector max = IntVector.fromArray(INTS, elements, i);
+        for (i += INTS.length(); i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, elements, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        return i < to ? Math.max(result, super.max(elements, i, to)) : result;
+    }
+
+    @Override
+    public int indexOf(long[] elements, int from, int to, long value) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONGS, elements, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return super.indexOf(elements, i, to, value);
+    }
+
+    @Override
+    public int count(long[] elements, int from, int to, long value) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            count += LongVector.fromArray(LONGS, elements, i).eq(value).trueCount();
+        }
+        return count + super.count(elements, i, to, value);
+    }
+
+    @Override
+    public long min(long[] elements, int from, int to) {
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        if (i == bound) {
+            return super.min(elements, from, to);
+        }
+        LongVector min = LongVector.fromArray(LONGS, elements, i);
+        for (i += LONGS.length(); i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, elements, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        return i < to ? Math.min(result, super.min(elements, i, to)) : result;
+    }
+
+    @Override
+    public long max(long[] elements, int from, int to) {
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        if (i == bound) {
+            return super.max(elements, from, to);
+        }
+        LongVector max = LongVector.fromArray(LONGS, elements, i);
+        for (i += LONGS.length(); i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, elements, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        return i < to ? Math.max(result, super.max(elements, i, to)) : result;
+    }
+
+    @Override
+    public long sum(long[] elements, int from, int to) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, elements, i));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + super.sum(elements, i, to);
+    }
+
+    @Override
+    public int indexOf(double[] elements, int from, int to, double value) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            VectorMask<?> found = matches(DoubleVector.fromArray(DOUBLES, elements, i), value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return super.indexOf(elements, i, to, value);
+    }
+
+    @Override
+    public int count(double[] elements, int from, int to, double value) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            count += matches(DoubleVector.fromArray(DOUBLES, elements, i), value).trueCount();
+        }
+        return count + super.count(elements, i, to, value);
+    }
+
+    @Override
+    public double min(double[] elements, int from, int to) {
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (i == bound) {
+            return super.min(elements, from, to);
+        }
+        DoubleVector min = DoubleVector.fromArray(DOUBLES, elements, i);
+        for (i += DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, elements, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        return i < to ? Math.min(result, super.min(elements, i, to)) : result;
+    }
+
+    @Override
+    public double max(double[] elements, int from, int to) {
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (i == bound) {
+            return super.max(elements, from, to);
+        }
+        DoubleVector max = DoubleVector.fromArray(DOUBLES, elements, i);
+        for (i += DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, elements, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        return i < to ? Math.max(result, super.max(elements, i, to)) : result;
+    }
+
+    @Override
+    public double sum(double[] elements, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, elements, i));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + super.sum(elements, i, to);
+    }
+
+    /**
+     * Маска элементов, равных value в смысле {@link Double#doubleToLongBits}. Для значения не NaN достаточно
+     * сравнить сырые биты: NaN элемента с ними не совпадёт, а -0.0 и 0.0 различаются. NaN совпадает с любым NaN.
+     */
+    private static VectorMask<?> matches(DoubleVector vector, double value) {
+        if (Double.isNaN(value)) {
+            return vector.test(VectorOperators.IS_NAN);
+        }
+        return vector.reinterpretAsLongs().eq(Double.doubleToRawLongBits(value));
+    }
+}
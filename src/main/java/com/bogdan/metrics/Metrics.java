@@ -0,0 +1,51 @@
+package com.bogdan.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Общий переключатель метрик библиотеки. Метрики включаются системным свойством {@value #ENABLED_PROPERTY}
+ * при запуске JVM ({@code -Dcom.bogdan.metrics=true}) и читаются через JMX в домене {@value #DOMAIN}.
+ * <p>
+ * Флаг {@link #ENABLED} - static final константа, поэтому JIT-компилятор вырезает проверки
+ * {@code if (Metrics.ENABLED)} вместе с кодом учета, и при выключенных метриках горячие пути списков и сортировок
+ * не платят за них ничего. Обратная сторона - включить метрики можно только перезапуском JVM.
+ */
+public final class Metrics {
+    /**
+     * Системное свойство, включающее метрики.
+     */
+    public static final String ENABLED_PROPERTY = "com.bogdan.metrics";
+    /**
+     * Включены ли метрики в этой JVM.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    /**
+     * Домен имен MBean метрик.
+     */
+    public static final String DOMAIN = "com.bogdan";
+
+    private Metrics() {
+    }
+
+    /**
+     * Регистрирует MBean метрик в платформенном MBeanServer под именем {@code com.bogdan:type=<type>}.
+     * Если MBean с таким именем уже зарегистрирован (например, библиотека загружена другим загрузчиком классов),
+     * метрики продолжают собираться, но через JMX не публикуются.
+     * @param type значение ключа type в имени MBean
+     * @param mbean объект, реализующий стандартный интерфейс *MBean
+     */
+    public static void register(String type, Object mbean) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(DOMAIN, "type", type);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mbean, name);
+            }
+        } catch (JMException e) {
+            // метрики остаются доступными программно
+        }
+    }
+}
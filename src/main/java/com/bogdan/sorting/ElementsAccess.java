@@ -0,0 +1,34 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.ArrayBackedList;
+import com.bogdan.list.SimpleList;
+
+/**
+ * Вспомогательный класс для доступа сортировок к элементам списка как к массиву.
+ * Для {@link ArrayBackedList} действие выполняется прямо над внутренним массивом списка,
+ * для остальных реализаций {@link SimpleList} элементы копируются во временный массив и после выполнения
+ * действия записываются обратно.
+ */
+final class ElementsAccess {
+
+    private ElementsAccess() {
+    }
+
+    static <T> void apply(SimpleList<T> list, ArrayBackedList.ElementsAction action) {
+        if (list instanceof ArrayBackedList<T> arrayBacked) {
+            arrayBacked.applyToElements(action);
+            return;
+        }
+        final int size = list.size();
+        Object[] elements = new Object[size];
+        int i = 0;
+        for (T element : list) {
+            elements[i++] = element;
+        }
+        action.apply(elements, 0, size);
+        for (i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked") T element = (T) elements[i];
+            list.set(i, element);
+        }
+    }
+}
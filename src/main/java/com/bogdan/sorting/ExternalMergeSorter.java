@@ -0,0 +1,308 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.RecordCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Внешняя сортировка слиянием для данных, которые не помещаются в кучу.
+ * <p>
+ * Элементы читаются из {@link Iterable} потоком и собираются в серии не длиннее заданного лимита памяти.
+ * Каждая серия сортируется в памяти сортировкой {@link Sorter} (по умолчанию устойчивой {@link TimSorter})
+ * и сбрасывается во временный файл в виде записей {@link RecordCodec}. Затем серии сливаются k-путевым слиянием
+ * через пирамиду из текущих элементов серий; файлы читаются через FileChannel крупными буферами. Если серий
+ * больше, чем допустимая степень слияния, выполняется несколько проходов, на каждом из которых группы серий
+ * сливаются в новые временные файлы.
+ * <p>
+ * В памяти одновременно находятся не больше memoryLimit элементов (серия при разбиении или по одному элементу
+ * от каждой серии при слиянии) плюс буферы ввода-вывода общим объемом около memoryLimit * recordSize байт,
+ * поэтому потребление памяти не зависит от объема входных данных. При равенстве элементов выигрывает более ранняя
+ * серия, так что с устойчивой сортировкой серий вся сортировка устойчива. Если данные поместились в одну серию,
+ * временные файлы не создаются. Временные файлы удаляются и при успешном завершении, и при ошибке.
+ * <p>
+ * Экземпляр не потокобезопасен: сортировка серий может переиспользовать внутренний буфер.
+ *
+ * @param <T> - тип сортируемых элементов
+ */
+public class ExternalMergeSorter<T> {
+    /**
+     * Наибольшее количество серий, сливаемых за один проход.
+     */
+    static final int MAX_FAN_IN = 256;
+    private static final int MAX_BUFFER_BYTES = 1 << 20;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int memoryLimit;
+    private final Path tempDirectory;
+    private final Sorter runSorter;
+
+    /**
+     * Конструктор с устойчивой сортировкой серий {@link TimSorter}.
+     * @param codec кодек элементов фиксированной длины для временных файлов
+     * @param memoryLimit наибольшее количество элементов в памяти, не меньше 2
+     * @param tempDirectory каталог для временных файлов серий
+     */
+    public ExternalMergeSorter(RecordCodec<T> codec, int memoryLimit, Path tempDirectory) {
+        this(codec, memoryLimit, tempDirectory, new TimSorter());
+    }
+
+    /**
+     * @param codec кодек элементов фиксированной длины для временных файлов
+     * @param memoryLimit наибольшее количество элементов в памяти, не меньше 2
+     * @param tempDirectory каталог для временных файлов серий
+     * @param runSorter сортировка серий в памяти
+     */
+    public ExternalMergeSorter(RecordCodec<T> codec, int memoryLimit, Path tempDirectory, Sorter runSorter) {
+        if (memoryLimit < 2) {
+            throw new IllegalArgumentException("Illegal memory limit: " + memoryLimit);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.recordSize = codec.recordSize();
+        this.memoryLimit = memoryLimit;
+        this.tempDirectory = Objects.requireNonNull(tempDirectory);
+        this.runSorter = Objects.requireNonNull(runSorter);
+    }
+
+    /**
+     * Сортирует элементы и передает их получателю в отсортированном порядке. Получателем может быть, например,
+     * {@code mappedFileList::add}, тогда результат тоже не занимает кучу.
+     * @param input исходные элементы
+     * @param comparator компаратор элементов
+     * @param sink получатель отсортированных элементов
+     * @throws IOException при ошибке работы с временными файлами
+     */
+    public void sort(Iterable<? extends T> input, Comparator<T> comparator, Consumer<? super T> sink)
+            throws IOException {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(sink);
+        Set<Path> runFiles = new LinkedHashSet<>();
+        try {
+            List<Path> runs = new ArrayList<>();
+            CustomArrayList<T> run = new CustomArrayList<>(memoryLimit);
+            Iterator<? extends T> iterator = input.iterator();
+            while (iterator.hasNext()) {
+                run.add(iterator.next());
+                if (run.size() == memoryLimit && iterator.hasNext()) {
+                    runSorter.sort(run, comparator);
+                    runs.add(spill(run, runFiles));
+                    run.clear();
+                }
+            }
+            runSorter.sort(run, comparator);
+            if (runs.isEmpty()) {
+                for (T element : run) {
+                    sink.accept(element);
+                }
+                return;
+            }
+            runs.add(spill(run, runFiles));
+            run = null;
+
+            int fanIn = Math.max(2, Math.min(MAX_FAN_IN, memoryLimit));
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    Path output = createRunFile(runFiles);
+                    try (RunWriter writer = new RunWriter(output, bufferBytes(group.size() + 1))) {
+                        merge(group, comparator, writer::write);
+                    }
+                    delete(group, runFiles);
+                    merged.add(output);
+                }
+                runs = merged;
+            }
+            merge(runs, comparator, sink::accept);
+        } finally {
+            delete(new ArrayList<>(runFiles), runFiles);
+        }
+    }
+
+    /**
+     * Сортирует элементы в новый список. Результат должен помещаться в память, ограничение действует только
+     * на промежуточные данные.
+     * @param input исходные элементы
+     * @param comparator компаратор элементов
+     * @return новый отсортированный список
+     * @throws IOException при ошибке работы с временными файлами
+     */
+    public CustomArrayList<T> sort(Iterable<? extends T> input, Comparator<T> comparator) throws IOException {
+        CustomArrayList<T> result = new CustomArrayList<>();
+        sort(input, comparator, result::add);
+        return result;
+    }
+
+    private Path spill(CustomArrayList<T> run, Set<Path> runFiles) throws IOException {
+        Path file = createRunFile(runFiles);
+        try (RunWriter writer = new RunWriter(file, bufferBytes(1))) {
+            for (T element : run) {
+                writer.write(element);
+            }
+        }
+        return file;
+    }
+
+    private void merge(List<Path> runs, Comparator<T> comparator, ElementSink<T> sink) throws IOException {
+        int bufferBytes = bufferBytes(runs.size() + 1);
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int cmp = comparator.compare(a.head, b.head);
+            return cmp != 0 ? cmp : Integer.compare(a.order, b.order);
+        });
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run, readers.size(), bufferBytes);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunReader reader = heap.poll();
+                sink.accept(reader.head);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Размер буфера, кратный длине записи, при одновременно открытых buffers буферах.
+     */
+    private int bufferBytes(int buffers) {
+        long budget = (long) memoryLimit * recordSize / buffers;
+        int bytes = (int) Math.max(recordSize, Math.min(MAX_BUFFER_BYTES, budget));
+        return bytes - bytes % recordSize;
+    }
+
+    private Path createRunFile(Set<Path> runFiles) throws IOException {
+        Path file = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        runFiles.add(file);
+        return file;
+    }
+
+    private static void delete(List<Path> files, Set<Path> runFiles) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+            runFiles.remove(file);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElementSink<T> {
+        void accept(T element) throws IOException;
+    }
+
+    /**
+     * Буферизованная запись серии в файл.
+     */
+    private final class RunWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        RunWriter(Path file, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        }
+
+        void write(T element) throws IOException {
+            if (buffer.remaining() < recordSize) {
+                flush();
+            }
+            codec.write(buffer, buffer.position(), element);
+            buffer.position(buffer.position() + recordSize);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Буферизованное чтение серии из файла; head - текущий элемент серии.
+     */
+    private final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        /**
+         * Порядковый номер серии, разрешает равенство элементов в пользу более ранней серии
+         */
+        private final int order;
+        private T head;
+
+        RunReader(Path file, int order, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).limit(0);
+            this.order = order;
+        }
+
+        /**
+         * Читает следующий элемент в head.
+         * @return false если серия закончилась
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < recordSize) {
+                buffer.compact();
+                int read;
+                do {
+                    read = channel.read(buffer);
+                } while (read >= 0 && buffer.hasRemaining());
+                buffer.flip();
+                if (buffer.remaining() < recordSize) {
+                    if (buffer.hasRemaining()) {
+                        throw new IOException("Truncated sort run");
+                    }
+                    head = null;
+                    return false;
+                }
+            }
+            head = codec.read(buffer, buffer.position());
+            buffer.position(buffer.position() + recordSize);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.SimpleList;
+import com.bogdan.metrics.Metrics;
+
+import java.util.Comparator;
+
+/**
+ * Класс реализующий интерфейс Sorter интроспективной сортировкой (introsort).
+ * В отличие от {@link QuickSorter}, который всегда берет последний элемент в качестве опорного и уходит в O(n²)
+ * (и в StackOverflowError) на уже отсортированных данных, здесь:
+ * <ul>
+ *     <li>опорный элемент выбирается медианой трех, а на больших диапазонах - медианой трех медиан (ninther);</li>
+ *     <li>разбиение трехстороннее (голландский флаг), поэтому серии одинаковых элементов не сортируются повторно;</li>
+ *     <li>диапазоны меньше {@link #INSERTION_SORT_THRESHOLD} досортировываются вставками;</li>
+ *     <li>при превышении глубины рекурсии 2*log2(n) диапазон досортировывается пирамидальной сортировкой,
+ *     что гарантирует O(n log n) в худшем случае;</li>
+ *     <li>рекурсивно обрабатывается только меньшая часть, большая - в цикле, поэтому глубина стека не превышает
+ *     log2(n).</li>
+ * </ul>
+ * Сортировка неустойчивая: равные элементы могут поменять взаимный порядок.
+ */
+public class IntroSorter implements Sorter {
+    /**
+     * Диапазоны такой длины и меньше сортируются вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    /**
+     * Начиная с такой длины диапазона опорный элемент выбирается медианой трех медиан.
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Метод интроспективной сортировки передаваемого списка. Для {@link com.bogdan.list.ArrayBackedList}
+     * сортируется непосредственно внутренний массив списка, для остальных списков элементы копируются во временный
+     * массив, сортируются в нем и записываются обратно. При включенных метриках вызов учитывается
+     * в {@link SortMetrics}: глубиной считается вложенность рекурсивных вызовов по меньшим частям разбиения.
+     * @param list передаваемый список для сортировки
+     * @param comparator тип компаратора для выбора поля сортировки
+     * @param <T> тип элемента который передается в метод сортировки.
+     */
+    @Override
+    public <T> void sort(SimpleList<T> list, Comparator<T> comparator) {
+        if (list.size() < 2) {
+            return;
+        }
+        SortEvent event = SortEvent.start();
+        if (Metrics.ENABLED) {
+            SortMetrics.record(comparator, counting -> ElementsAccess.apply(list,
+                    (elements, from, to) -> sort(elements, from, to, counting)));
+        } else {
+            ElementsAccess.apply(list, (elements, from, to) -> sort(elements, from, to, comparator));
+        }
+        event.finish(this, comparator, list.size());
+    }
+
+    /**
+     * Сортирует диапазон массива [from, to).
+     * @param elements массив для сортировки
+     * @param from первый индекс диапазона, включительно
+     * @param to последний индекс диапазона, не включительно
+     * @param comparator компаратор элементов
+     */
+    static <T> void sort(Object[] elements, int from, int to, Comparator<? super T> comparator) {
+        sort(elements, from, to, depthLimit(to - from), comparator);
+    }
+
+    static <T> void sort(Object[] elements, int from, int to, int depthLimit, Comparator<? super T> comparator) {
+        if (Metrics.ENABLED) {
+            SortMetrics.enter();
+        }
+        int low = from;
+        int high = to;
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(elements, low, high, comparator);
+                if (Metrics.ENABLED) {
+                    SortMetrics.exit();
+                }
+                return;
+            }
+            long bounds = partition(elements, low, high, comparator);
+            int lt = lowerBound(bounds);
+            int gt = upperBound(bounds);
+
+            if (lt - low < high - gt) {
+                sort(elements, low, lt, depthLimit, comparator);
+                low = gt;
+            } else {
+                sort(elements, gt, high, depthLimit, comparator);
+                high = lt;
+            }
+        }
+        insertionSort(elements, low, high, comparator);
+        if (Metrics.ENABLED) {
+            SortMetrics.exit();
+        }
+    }
+
+    /**
+     * Трехстороннее разбиение диапазона [low, high) вокруг опорного элемента, выбранного {@link #selectPivot}.
+     * После разбиения [low, lt) меньше опорного, [lt, gt) равны ему, [gt, high) больше.
+     * @return границы lt и gt, упакованные в long; извлекаются {@link #lowerBound} и {@link #upperBound}
+     */
+    static <T> long partition(Object[] elements, int low, int high, Comparator<? super T> comparator) {
+        T pivot = selectPivot(elements, low, high, comparator);
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i < gt) {
+            @SuppressWarnings("unchecked") T element = (T) elements[i];
+            int cmp = comparator.compare(element, pivot);
+            if (cmp < 0) {
+                swap(elements, lt++, i++);
+            } else if (cmp > 0) {
+                swap(elements, i, --gt);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    static int lowerBound(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    static int upperBound(long bounds) {
+        return (int) bounds;
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    private static <T> T selectPivot(Object[] elements, int low, int high, Comparator<? super T> comparator) {
+        final int length = high - low;
+        final int mid = low + (length >>> 1);
+        final int last = high - 1;
+        int pivotIndex;
+        if (length >= NINTHER_THRESHOLD) {
+            int step = length >>> 3;
+            pivotIndex = medianOfThree(elements,
+                    medianOfThree(elements, low, low + step, low + 2 * step, comparator),
+                    medianOfThree(elements, mid - step, mid, mid + step, comparator),
+                    medianOfThree(elements, last - 2 * step, last - step, last, comparator),
+                    comparator);
+        } else {
+            pivotIndex = medianOfThree(elements, low, mid, last, comparator);
+        }
+        @SuppressWarnings("unchecked") T pivot = (T) elements[pivotIndex];
+        return pivot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int medianOfThree(Object[] elements, int a, int b, int c, Comparator<? super T> comparator) {
+        T x = (T) elements[a];
+        T y = (T) elements[b];
+        T z = (T) elements[c];
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) return b;
+            return comparator.compare(x, z) < 0 ? c : a;
+        } else {
+            if (comparator.compare(x, z) < 0) return a;
+            return comparator.compare(y, z) < 0 ? c : b;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void insertionSort(Object[] elements, int low, int high, Comparator<? super T> comparator) {
+        for (int i = low + 1; i < high; i++) {
+            T current = (T) elements[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare((T) elements[j], current) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    static <T> void heapSort(Object[] elements, int low, int high, Comparator<? super T> comparator) {
+        final int length = high - low;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(elements, low, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(elements, low, low + end);
+            siftDown(elements, low, 0, end, comparator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftDown(Object[] elements, int offset, int root, int length,
+                                     Comparator<? super T> comparator) {
+        T value = (T) elements[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length
+                    && comparator.compare((T) elements[offset + child], (T) elements[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(value, (T) elements[offset + child]) >= 0) {
+                break;
+            }
+            elements[offset + root] = elements[offset + child];
+            root = child;
+        }
+        elements[offset + root] = value;
+    }
+
+    private static void swap(Object[] elements, int i, int j) {
+        if (Metrics.ENABLED) {
+            SortMetrics.swap();
+        }
+        Object temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bogdan.sorting;
+
+/**
+ * Элемент вместе с заранее вычисленным ключом сортировки для {@link Sorter#sortByKey}.
+ *
+ * @param key ключ элемента
+ * @param element исходный элемент
+ * @param <K> тип ключа
+ * @param <T> тип элемента
+ */
+record KeyedElement<K, T>(K key, T element) {
+}
@@ -0,0 +1,153 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.SimpleList;
+import com.bogdan.metrics.Metrics;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс реализующий интерфейс Sorter параллельной быстрой сортировкой на fork/join.
+ * Диапазон разбивается тем же трехсторонним разбиением, что и в {@link IntroSorter}, после чего обе части
+ * сортируются отдельными задачами {@link RecursiveAction} в заданном {@link ForkJoinPool}.
+ * Диапазоны не длиннее порога досортировываются последовательно {@link IntroSorter}, поэтому небольшие списки
+ * сортируются без накладных расходов на создание задач. Защита от худшего случая такая же, как в IntroSorter:
+ * после 2*log2(n) уровней разбиения диапазон досортировывается пирамидальной сортировкой.
+ * Сортировка неустойчивая.
+ */
+public class ParallelQuickSorter implements Sorter {
+    /**
+     * Порог по умолчанию: диапазоны такой длины и меньше сортируются последовательно.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Конструктор по умолчанию, использует общий пул {@link ForkJoinPool#commonPool()}
+     * и порог {@link #DEFAULT_THRESHOLD}.
+     */
+    public ParallelQuickSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Конструктор принимающий пул, в котором будут выполняться задачи сортировки.
+     * @param pool пул потоков для задач сортировки
+     */
+    public ParallelQuickSorter(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Конструктор принимающий пул и порог последовательной сортировки.
+     * @param pool пул потоков для задач сортировки
+     * @param threshold длина диапазона, начиная с которой (и ниже) сортировка идет последовательно
+     */
+    public ParallelQuickSorter(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Illegal threshold: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Метод параллельной сортировки передаваемого списка. Если список не длиннее порога, он сортируется
+     * последовательно в вызывающем потоке. При включенных метриках вызов учитывается в {@link SortMetrics}:
+     * каждая задача считает в своей пробе, пробы подзадач сливаются в пробу родителя после join, а уровень
+     * параллельного разбиения считается уровнем рекурсии.
+     * @param list передаваемый список для сортировки
+     * @param comparator тип компаратора для выбора поля сортировки
+     * @param <T> тип элемента который передается в метод сортировки.
+     */
+    @Override
+    public <T> void sort(SimpleList<T> list, Comparator<T> comparator) {
+        if (list.size() < 2) {
+            return;
+        }
+        SortEvent event = SortEvent.start();
+        if (Metrics.ENABLED) {
+            SortMetrics.record(probe -> ElementsAccess.apply(list,
+                    (elements, from, to) -> sort(elements, from, to, comparator, probe)));
+        } else {
+            ElementsAccess.apply(list, (elements, from, to) -> sort(elements, from, to, comparator, null));
+        }
+        event.finish(this, comparator, list.size());
+    }
+
+    /**
+     * Сортирует диапазон массива [from, to); probe - проба вызывающего потока или null без метрик.
+     */
+    private <T> void sort(Object[] elements, int from, int to, Comparator<T> comparator, SortMetrics.Probe probe) {
+        if (to - from <= threshold) {
+            IntroSorter.sort(elements, from, to, probe == null ? comparator : probe.counting(comparator));
+        } else {
+            pool.invoke(new SortTask<>(elements, from, to, IntroSorter.depthLimit(to - from), threshold,
+                    comparator, probe));
+        }
+    }
+
+    /**
+     * Задача сортировки диапазона [low, high) массива. Статическая, чтобы не держать ссылку на сортировщик;
+     * задачи не сериализуются, поэтому serialVersionUID не нужен, а несериализуемые поля допустимы. При включенных
+     * метриках у задачи своя проба, которую использует только поток, выполняющий задачу.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortTask<T> extends RecursiveAction {
+        private final Object[] elements;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+        private final int threshold;
+        private final Comparator<? super T> comparator;
+        private final SortMetrics.Probe probe;
+
+        private SortTask(Object[] elements, int low, int high, int depthLimit, int threshold,
+                         Comparator<? super T> comparator, SortMetrics.Probe probe) {
+            this.elements = elements;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+            this.threshold = threshold;
+            this.comparator = comparator;
+            this.probe = probe;
+        }
+
+        @Override
+        protected void compute() {
+            if (probe == null) {
+                sortRange(comparator);
+            } else {
+                SortMetrics.run(probe, () -> sortRange(probe.counting(comparator)));
+            }
+        }
+
+        /**
+         * Сортирует диапазон задачи; counting - компаратор, которым сравнивает эта задача, подзадачи получают
+         * исходный компаратор и считают в своих пробах.
+         */
+        private void sortRange(Comparator<? super T> counting) {
+            if (high - low <= threshold || depthLimit == 0) {
+                // при исчерпанной глубине IntroSorter сразу переходит к пирамидальной сортировке
+                IntroSorter.sort(elements, low, high, depthLimit, counting);
+                return;
+            }
+            long bounds = IntroSorter.partition(elements, low, high, counting);
+            SortTask<T> left = new SortTask<>(elements, low, IntroSorter.lowerBound(bounds), depthLimit - 1,
+                    threshold, comparator, probe == null ? null : probe.fork());
+            SortTask<T> right = new SortTask<>(elements, IntroSorter.upperBound(bounds), high, depthLimit - 1,
+                    threshold, comparator, probe == null ? null : probe.fork());
+            invokeAll(left, right);
+            if (probe != null) {
+                probe.merge(left.probe);
+                probe.merge(right.probe);
+            }
+        }
+    }
+}
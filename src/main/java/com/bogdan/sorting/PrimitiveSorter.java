@@ -0,0 +1,418 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.DoubleArrayList;
+import com.bogdan.list.IntArrayList;
+import com.bogdan.list.LongArrayList;
+
+/**
+ * Класс сортировки списков примитивных значений по возрастанию.
+ * Работает как {@link IntroSorter} (медиана трех, трехстороннее разбиение, вставки на коротких диапазонах,
+ * пирамидальная сортировка при превышении глубины рекурсии), но прямо над внутренним массивом int[], long[] или
+ * double[] списка: значения сравниваются операторами сравнения, без Comparator и без упаковки.
+ * Значения double упорядочиваются как в {@link Double#compare}: -0.0 раньше 0.0, NaN в конце.
+ */
+public class PrimitiveSorter {
+    /**
+     * Наибольшая длина диапазона int или long, который сортируется сетью сортировки вместо вставок.
+     * Для double сеть не используется: Math.min и Math.max не задают порядок {@link Double#compare} для NaN.
+     */
+    static final int NETWORK_SIZE = 8;
+
+    /**
+     * Сортирует список int по возрастанию.
+     * @param list список для сортировки
+     */
+    public void sort(IntArrayList list) {
+        list.applyToElements(PrimitiveSorter::sort);
+    }
+
+    /**
+     * Сортирует список long по возрастанию.
+     * @param list список для сортировки
+     */
+    public void sort(LongArrayList list) {
+        list.applyToElements(PrimitiveSorter::sort);
+    }
+
+    /**
+     * Сортирует список double по возрастанию в порядке {@link Double#compare}.
+     * @param list список для сортировки
+     */
+    public void sort(DoubleArrayList list) {
+        list.applyToElements(PrimitiveSorter::sort);
+    }
+
+    /**
+     * Сортирует по возрастанию диапазон [from, to) массива int.
+     */
+    static void sort(int[] elements, int from, int to) {
+        sort(elements, from, to, IntroSorter.depthLimit(to - from));
+    }
+
+    private static void sort(int[] elements, int low, int high, int depthLimit) {
+        while (high - low > IntroSorter.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(elements, low, high);
+                return;
+            }
+            int pivot = medianOfThree(elements[low], elements[(low + high) >>> 1], elements[high - 1]);
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i < gt) {
+                int element = elements[i];
+                if (element < pivot) {
+                    elements[i++] = elements[lt];
+                    elements[lt++] = element;
+                } else if (element > pivot) {
+                    elements[i] = elements[--gt];
+                    elements[gt] = element;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - low < high - gt) {
+                sort(elements, low, lt, depthLimit);
+                low = gt;
+            } else {
+                sort(elements, gt, high, depthLimit);
+                high = lt;
+            }
+        }
+        insertionSort(elements, low, high);
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+
+    private static void insertionSort(int[] elements, int low, int high) {
+        if (high - low <= NETWORK_SIZE) {
+            networkSort(elements, low, high);
+            return;
+        }
+        for (int i = low + 1; i < high; i++) {
+            int current = elements[i];
+            int j = i - 1;
+            while (j >= low && elements[j] > current) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    /**
+     * Сортирует диапазон длиной не больше {@link #NETWORK_SIZE} сетью сортировки из 19 компараторов. Значения
+     * читаются в локальные переменные (недостающие дополняются {@link Integer#MAX_VALUE}), каждый компаратор -
+     * пара min/max без ветвлений, поэтому время не зависит от исходного порядка и нет ошибок предсказания переходов.
+     */
+    @SuppressWarnings("fallthrough")
+    private static void networkSort(int[] elements, int low, int high) {
+        final int length = high - low;
+        int v0 = 0 < length ? elements[low + 0] : Integer.MAX_VALUE;
+        int v1 = 1 < length ? elements[low + 1] : Integer.MAX_VALUE;
+        int v2 = 2 < length ? elements[low + 2] : Integer.MAX_VALUE;
+        int v3 = 3 < length ? elements[low + 3] : Integer.MAX_VALUE;
+        int v4 = 4 < length ? elements[low + 4] : Integer.MAX_VALUE;
+        int v5 = 5 < length ? elements[low + 5] : Integer.MAX_VALUE;
+        int v6 = 6 < length ? elements[low + 6] : Integer.MAX_VALUE;
+        int v7 = 7 < length ? elements[low + 7] : Integer.MAX_VALUE;
+        int min;
+        min = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = min;
+        min = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = min;
+        min = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = min;
+        min = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = min;
+        min = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = min;
+        min = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = min;
+        min = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = min;
+        min = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = min;
+        min = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = min;
+        min = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = min;
+        min = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = min;
+        min = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = min;
+        min = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = min;
+        min = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = min;
+        min = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = min;
+        min = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = min;
+        min = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = min;
+        min = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = min;
+        min = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = min;
+        // записываются только первые length значений, остальные - дополнение; case без break намеренно
+        switch (length) {
+            case 8: elements[low + 7] = v7;
+            case 7: elements[low + 6] = v6;
+            case 6: elements[low + 5] = v5;
+            case 5: elements[low + 4] = v4;
+            case 4: elements[low + 3] = v3;
+            case 3: elements[low + 2] = v2;
+            case 2: elements[low + 1] = v1;
+            case 1: elements[low] = v0;
+            default: break;
+        }
+    }
+
+    private static void heapSort(int[] elements, int low, int high) {
+        final int length = high - low;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(elements, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            int temp = elements[low];
+            elements[low] = elements[low + end];
+            elements[low + end] = temp;
+            siftDown(elements, low, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] elements, int offset, int root, int length) {
+        int value = elements[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && elements[offset + child] < elements[offset + child + 1]) {
+                child++;
+            }
+            if (value >= elements[offset + child]) {
+                break;
+            }
+            elements[offset + root] = elements[offset + child];
+            root = child;
+        }
+        elements[offset + root] = value;
+    }
+
+    /**
+     * Сортирует по возрастанию диапазон [from, to) массива long.
+     */
+    static void sort(long[] elements, int from, int to) {
+        sort(elements, from, to, IntroSorter.depthLimit(to - from));
+    }
+
+    private static void sort(long[] elements, int low, int high, int depthLimit) {
+        while (high - low > IntroSorter.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(elements, low, high);
+                return;
+            }
+            long pivot = medianOfThree(elements[low], elements[(low + high) >>> 1], elements[high - 1]);
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i < gt) {
+                long element = elements[i];
+                if (element < pivot) {
+                    elements[i++] = elements[lt];
+                    elements[lt++] = element;
+                } else if (element > pivot) {
+                    elements[i] = elements[--gt];
+                    elements[gt] = element;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - low < high - gt) {
+                sort(elements, low, lt, depthLimit);
+                low = gt;
+            } else {
+                sort(elements, gt, high, depthLimit);
+                high = lt;
+            }
+        }
+        insertionSort(elements, low, high);
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+
+    private static void insertionSort(long[] elements, int low, int high) {
+        if (high - low <= NETWORK_SIZE) {
+            networkSort(elements, low, high);
+            return;
+        }
+        for (int i = low + 1; i < high; i++) {
+            long current = elements[i];
+            int j = i - 1;
+            while (j >= low && elements[j] > current) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    /**
+     * Сортирует диапазон длиной не больше {@link #NETWORK_SIZE} сетью сортировки из 19 компараторов. Значения
+     * читаются в локальные переменные (недостающие дополняются {@link Long#MAX_VALUE}), каждый компаратор -
+     * пара min/max без ветвлений, поэтому время не зависит от исходного порядка и нет ошибок предсказания переходов.
+     */
+    @SuppressWarnings("fallthrough")
+    private static void networkSort(long[] elements, int low, int high) {
+        final int length = high - low;
+        long v0 = 0 < length ? elements[low + 0] : Long.MAX_VALUE;
+        long v1 = 1 < length ? elements[low + 1] : Long.MAX_VALUE;
+        long v2 = 2 < length ? elements[low + 2] : Long.MAX_VALUE;
+        long v3 = 3 < length ? elements[low + 3] : Long.MAX_VALUE;
+        long v4 = 4 < length ? elements[low + 4] : Long.MAX_VALUE;
+        long v5 = 5 < length ? elements[low + 5] : Long.MAX_VALUE;
+        long v6 = 6 < length ? elements[low + 6] : Long.MAX_VALUE;
+        long v7 = 7 < length ? elements[low + 7] : Long.MAX_VALUE;
+        long min;
+        min = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = min;
+        min = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = min;
+        min = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = min;
+        min = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = min;
+        min = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = min;
+        min = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = min;
+        min = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = min;
+        min = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = min;
+        min = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = min;
+        min = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = min;
+        min = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = min;
+        min = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = min;
+        min = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = min;
+        min = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = min;
+        min = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = min;
+        min = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = min;
+        min = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = min;
+        min = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = min;
+        min = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = min;
+        // записываются только первые length значений, остальные - дополнение; case без break намеренно
+        switch (length) {
+            case 8: elements[low + 7] = v7;
+            case 7: elements[low + 6] = v6;
+            case 6: elements[low + 5] = v5;
+            case 5: elements[low + 4] = v4;
+            case 4: elements[low + 3] = v3;
+            case 3: elements[low + 2] = v2;
+            case 2: elements[low + 1] = v1;
+            case 1: elements[low] = v0;
+            default: break;
+        }
+    }
+
+    private static void heapSort(long[] elements, int low, int high) {
+        final int length = high - low;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(elements, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            long temp = elements[low];
+            elements[low] = elements[low + end];
+            elements[low + end] = temp;
+            siftDown(elements, low, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] elements, int offset, int root, int length) {
+        long value = elements[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && elements[offset + child] < elements[offset + child + 1]) {
+                child++;
+            }
+            if (value >= elements[offset + child]) {
+                break;
+            }
+            elements[offset + root] = elements[offset + child];
+            root = child;
+        }
+        elements[offset + root] = value;
+    }
+
+    /**
+     * Сортирует по возрастанию диапазон [from, to) массива double в порядке {@link Double#compare}.
+     */
+    static void sort(double[] elements, int from, int to) {
+        sort(elements, from, to, IntroSorter.depthLimit(to - from));
+    }
+
+    private static void sort(double[] elements, int low, int high, int depthLimit) {
+        while (high - low > IntroSorter.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(elements, low, high);
+                return;
+            }
+            double pivot = medianOfThree(elements[low], elements[(low + high) >>> 1], elements[high - 1]);
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i < gt) {
+                double element = elements[i];
+                if (Double.compare(element, pivot) < 0) {
+                    elements[i++] = elements[lt];
+                    elements[lt++] = element;
+                } else if (Double.compare(element, pivot) > 0) {
+                    elements[i] = elements[--gt];
+                    elements[gt] = element;
+                } else {
+                    i++;
+                }
+            }
+            if (lt - low < high - gt) {
+                sort(elements, low, lt, depthLimit);
+                low = gt;
+            } else {
+                sort(elements, gt, high, depthLimit);
+                high = lt;
+            }
+        }
+        insertionSort(elements, low, high);
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (Double.compare(a, b) < 0) {
+            if (Double.compare(b, c) < 0) return b;
+            return Double.compare(a, c) < 0 ? c : a;
+        }
+        if (Double.compare(a, c) < 0) return a;
+        return Double.compare(b, c) < 0 ? c : b;
+    }
+
+    private static void insertionSort(double[] elements, int low, int high) {
+        for (int i = low + 1; i < high; i++) {
+            double current = elements[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(elements[j], current) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(double[] elements, int low, int high) {
+        final int length = high - low;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(elements, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            double temp = elements[low];
+            elements[low] = elements[low + end];
+            elements[low + end] = temp;
+            siftDown(elements, low, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] elements, int offset, int root, int length) {
+        double value = elements[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && Double.compare(elements[offset + child], elements[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Double.compare(value, elements[offset + child]) >= 0) {
+                break;
+            }
+            elements[offset + root] = elements[offset + child];
+            root = child;
+        }
+        elements[offset + root] = value;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bogdan.sorting;
 
 import com.bogdan.list.SimpleList;
+import com.bogdan.metrics.Metrics;
 
 import java.util.Comparator;
 
@@ -19,41 +20,63 @@ public class QuickSorter implements Sorter {
      * Затем проверяет каждый элемент и меняет его перед опорным, если его значение меньше. К концу разбиения
      * все элементы, меньшие опорного элемента, находятся слева от него, а все элементы, большие опорного
      * элемента, находятся справа от него. Опорный элемент находится в своей окончательной
-     * отсортированной позиции, и функция возвращает эту позицию
+     * отсортированной позиции, и функция возвращает эту позицию.
+     * Сортировка выполняется над массивом элементов: для {@link com.bogdan.list.ArrayBackedList} это внутренний
+     * массив списка, поэтому доступ к элементам идет без вызовов get/set и проверок индекса.
+     * При включенных метриках вызов учитывается в {@link SortMetrics}.
      * @param list передаваемый список для сортировки
      * @param comparator тип компаратора для выбора поля сортировки
      * @param <T> тип элемента который передается в метод сортировки.
      */
     @Override
     public <T> void sort(SimpleList<T> list, Comparator<T> comparator){
-        quickSort(list,0,list.size() - 1,comparator);
+        SortEvent event = SortEvent.start();
+        if (Metrics.ENABLED) {
+            SortMetrics.record(comparator, counting -> ElementsAccess.apply(list,
+                    (elements, from, to) -> quickSort(elements, from, to - 1, counting)));
+        } else {
+            ElementsAccess.apply(list, (elements, from, to) -> quickSort(elements, from, to - 1, comparator));
+        }
+        event.finish(this, comparator, list.size());
     }
 
-    private <T> void quickSort(SimpleList<T> list, int low, int high, Comparator<T> comparator) {
+    private <T> void quickSort(Object[] elements, int low, int high, Comparator<T> comparator) {
         if (low < high) {
-            int pivotIndex = partition(list, low, high, comparator);
+            if (Metrics.ENABLED) {
+                SortMetrics.enter();
+            }
+            int pivotIndex = partition(elements, low, high, comparator);
 
-            quickSort(list, low, pivotIndex - 1, comparator);
-            quickSort(list, pivotIndex + 1, high, comparator);
+            quickSort(elements, low, pivotIndex - 1, comparator);
+            quickSort(elements, pivotIndex + 1, high, comparator);
+            if (Metrics.ENABLED) {
+                SortMetrics.exit();
+            }
         }
     }
 
-    private <T> int partition(SimpleList<T> list, int low, int high, Comparator<T> comparator) {
-        T pivot = list.get(high);
+    @SuppressWarnings("unchecked")
+    private <T> int partition(Object[] elements, int low, int high, Comparator<T> comparator) {
+        T pivot = (T) elements[high];
         int i = low - 1;
 
         for (int j = low; j < high; j++) {
-            if (comparator.compare(list.get(j), pivot) < 0) {
+            if (comparator.compare((T) elements[j], pivot) < 0) {
                 i++;
-                swap(list, i, j);
+                swap(elements, i, j);
             }
         }
 
-        swap(list, i + 1, high);
+        swap(elements, i + 1, high);
         return i + 1;
     }
 
-    private <T> void swap(SimpleList<T> list, int i, int j) {
-        list.set(i, list.set(j, list.get(i)));
+    private void swap(Object[] elements, int i, int j) {
+        if (Metrics.ENABLED) {
+            SortMetrics.swap();
+        }
+        Object temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
     }
 }
@@ -0,0 +1,294 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.DoubleArrayList;
+import com.bogdan.list.IntArrayList;
+import com.bogdan.list.LongArrayList;
+import com.bogdan.list.SimpleList;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Устойчивая поразрядная сортировка (LSD radix sort) по целочисленному ключу.
+ * <p>
+ * Ключ каждого элемента извлекается один раз ({@link ToIntFunction} или {@link ToLongFunction}) в массив ключей,
+ * затем элементы вместе с ключами раскладываются по 256 корзинам за проход на каждый байт ключа, начиная с
+ * младшего: 4 прохода для int и 8 для long, O(n·k) без единого сравнения. Гистограммы всех байтов считаются
+ * одним проходом заранее, и проходы по байтам, одинаковым у всех ключей (например, старшим байтам меток времени
+ * из одного дня), пропускаются. Знаковые ключи упорядочиваются как числа: у старшего байта инвертируется бит знака.
+ * <p>
+ * Списки {@link IntArrayList}, {@link LongArrayList} и {@link DoubleArrayList} сортируются прямо по своему
+ * массиву значений, без ключей и без упаковки. Значения double упорядочиваются как в {@link Double#compare}.
+ * <p>
+ * Буферы раскладки хранятся в экземпляре и переиспользуются между вызовами, поэтому экземпляр не потокобезопасен.
+ * После каждой сортировки ссылки на элементы в буфере обнуляются.
+ */
+public class RadixSorter {
+    private static final int BITS = 8;
+    private static final int BUCKETS = 1 << BITS;
+    private static final int MASK = BUCKETS - 1;
+    private static final int[] EMPTY_INTS = {};
+    private static final long[] EMPTY_LONGS = {};
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private int[] intKeys = EMPTY_INTS;
+    private int[] intScratch = EMPTY_INTS;
+    private long[] longKeys = EMPTY_LONGS;
+    private long[] longScratch = EMPTY_LONGS;
+    private Object[] elementScratch = EMPTY_ELEMENTS;
+
+    /**
+     * Устойчиво сортирует список по возрастанию int-ключа.
+     * @param list список для сортировки
+     * @param keyExtractor функция ключа, вызывается ровно один раз для каждого элемента
+     * @param <T> тип элемента списка
+     */
+    public <T> void sortByInt(SimpleList<T> list, ToIntFunction<? super T> keyExtractor) {
+        if (list.size() < 2) {
+            return;
+        }
+        ElementsAccess.apply(list, (elements, from, to) -> {
+            final int length = to - from;
+            int[] keys = intKeys(length);
+            for (int i = 0; i < length; i++) {
+                @SuppressWarnings("unchecked") T element = (T) elements[from + i];
+                keys[i] = keyExtractor.applyAsInt(element);
+            }
+            try {
+                sortInts(keys, 0, elements, from, length);
+            } finally {
+                Arrays.fill(elementScratch, 0, Math.min(length, elementScratch.length), null);
+            }
+        });
+    }
+
+    /**
+     * Устойчиво сортирует список по возрастанию long-ключа.
+     * @param list список для сортировки
+     * @param keyExtractor функция ключа, вызывается ровно один раз для каждого элемента
+     * @param <T> тип элемента списка
+     */
+    public <T> void sortByLong(SimpleList<T> list, ToLongFunction<? super T> keyExtractor) {
+        if (list.size() < 2) {
+            return;
+        }
+        ElementsAccess.apply(list, (elements, from, to) -> {
+            final int length = to - from;
+            long[] keys = longKeys(length);
+            for (int i = 0; i < length; i++) {
+                @SuppressWarnings("unchecked") T element = (T) elements[from + i];
+                keys[i] = keyExtractor.applyAsLong(element);
+            }
+            try {
+                sortLongs(keys, 0, elements, from, length);
+            } finally {
+                Arrays.fill(elementScratch, 0, Math.min(length, elementScratch.length), null);
+            }
+        });
+    }
+
+    /**
+     * Сортирует список int по возрастанию.
+     * @param list список для сортировки
+     */
+    public void sort(IntArrayList list) {
+        list.applyToElements((elements, from, to) -> sortInts(elements, from, null, 0, to - from));
+    }
+
+    /**
+     * Сортирует список long по возрастанию.
+     * @param list список для сортировки
+     */
+    public void sort(LongArrayList list) {
+        list.applyToElements((elements, from, to) -> sortLongs(elements, from, null, 0, to - from));
+    }
+
+    /**
+     * Сортирует список double по возрастанию в порядке {@link Double#compare}. Все NaN приводятся к
+     * каноническому значению {@link Double#NaN}.
+     * @param list список для сортировки
+     */
+    public void sort(DoubleArrayList list) {
+        list.applyToElements((elements, from, to) -> {
+            final int length = to - from;
+            long[] keys = longKeys(length);
+            for (int i = 0; i < length; i++) {
+                long bits = Double.doubleToLongBits(elements[from + i]);
+                // отрицательные числа инвертируются целиком, положительные - только бит знака; после этого
+                // беззнаковый порядок ключей совпадает с Double.compare, а со знаковым его уравнивает sortLongs
+                keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE) ^ Long.MIN_VALUE;
+            }
+            sortLongs(keys, 0, null, 0, length);
+            for (int i = 0; i < length; i++) {
+                long bits = keys[i] ^ Long.MIN_VALUE;
+                elements[from + i] = Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+            }
+        });
+    }
+
+    /**
+     * Сортирует keys[keyFrom, keyFrom + length) и синхронно переставляет payload[payloadFrom, ...), если он задан.
+     */
+    private void sortInts(int[] keys, int keyFrom, Object[] payload, int payloadFrom, int length) {
+        if (length < 2) {
+            return;
+        }
+        final int passes = Integer.BYTES;
+        int[] counts = new int[passes * BUCKETS];
+        for (int i = keyFrom, end = keyFrom + length; i < end; i++) {
+            int key = keys[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass * BUCKETS + ((key >>> (pass * BITS)) & MASK)]++;
+            }
+        }
+        int[] scratch = intScratch(length);
+        Object[] payloadScratch = payload == null ? null : elementScratch(length);
+        int[] sourceKeys = keys;
+        int sourceFrom = keyFrom;
+        Object[] sourcePayload = payload;
+        int sourcePayloadFrom = payloadFrom;
+        int[] targetKeys = scratch;
+        Object[] targetPayload = payloadScratch;
+        int[] offsets = new int[BUCKETS];
+        for (int pass = 0; pass < passes; pass++) {
+            final int shift = pass * BITS;
+            if (!prefixSums(counts, pass * BUCKETS, ((keys[keyFrom] ^ Integer.MIN_VALUE) >>> shift) & MASK,
+                    length, offsets)) {
+                continue;
+            }
+            int targetFrom = targetKeys == keys ? keyFrom : 0;
+            int targetPayloadFrom = targetPayload == payload ? payloadFrom : 0;
+            for (int i = 0; i < length; i++) {
+                int key = sourceKeys[sourceFrom + i];
+                int position = offsets[((key ^ Integer.MIN_VALUE) >>> shift) & MASK]++;
+                targetKeys[targetFrom + position] = key;
+                if (payload != null) {
+                    targetPayload[targetPayloadFrom + position] = sourcePayload[sourcePayloadFrom + i];
+                }
+            }
+            int[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            sourceFrom = targetFrom;
+            Object[] swapPayload = sourcePayload;
+            sourcePayload = targetPayload;
+            targetPayload = swapPayload;
+            sourcePayloadFrom = targetPayloadFrom;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, keyFrom, length);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, payloadFrom, length);
+            }
+        }
+    }
+
+    /**
+     * Сортирует keys[keyFrom, keyFrom + length) и синхронно переставляет payload[payloadFrom, ...), если он задан.
+     */
+    private void sortLongs(long[] keys, int keyFrom, Object[] payload, int payloadFrom, int length) {
+        if (length < 2) {
+            return;
+        }
+        final int passes = Long.BYTES;
+        int[] counts = new int[passes * BUCKETS];
+        for (int i = keyFrom, end = keyFrom + length; i < end; i++) {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass * BUCKETS + (int) ((key >>> (pass * BITS)) & MASK)]++;
+            }
+        }
+        long[] scratch = longScratch(length);
+        Object[] payloadScratch = payload == null ? null : elementScratch(length);
+        long[] sourceKeys = keys;
+        int sourceFrom = keyFrom;
+        Object[] sourcePayload = payload;
+        int sourcePayloadFrom = payloadFrom;
+        long[] targetKeys = scratch;
+        Object[] targetPayload = payloadScratch;
+        int[] offsets = new int[BUCKETS];
+        for (int pass = 0; pass < passes; pass++) {
+            final int shift = pass * BITS;
+            if (!prefixSums(counts, pass * BUCKETS, (int) (((keys[keyFrom] ^ Long.MIN_VALUE) >>> shift) & MASK),
+                    length, offsets)) {
+                continue;
+            }
+            int targetFrom = targetKeys == keys ? keyFrom : 0;
+            int targetPayloadFrom = targetPayload == payload ? payloadFrom : 0;
+            for (int i = 0; i < length; i++) {
+                long key = sourceKeys[sourceFrom + i];
+                int position = offsets[(int) (((key ^ Long.MIN_VALUE) >>> shift) & MASK)]++;
+                targetKeys[targetFrom + position] = key;
+                if (payload != null) {
+                    targetPayload[targetPayloadFrom + position] = sourcePayload[sourcePayloadFrom + i];
+                }
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            sourceFrom = targetFrom;
+            Object[] swapPayload = sourcePayload;
+            sourcePayload = targetPayload;
+            targetPayload = swapPayload;
+            sourcePayloadFrom = targetPayloadFrom;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, keyFrom, length);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, payloadFrom, length);
+            }
+        }
+    }
+
+    /**
+     * Заполняет offsets начальными позициями корзин прохода.
+     * @return false если все ключи попали в одну корзину и проход можно пропустить
+     */
+    private static boolean prefixSums(int[] counts, int base, int anyBucket, int length, int[] offsets) {
+        if (counts[base + anyBucket] == length) {
+            return false;
+        }
+        int sum = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            offsets[bucket] = sum;
+            sum += counts[base + bucket];
+        }
+        return true;
+    }
+
+    private int[] intKeys(int length) {
+        if (intKeys.length < length) {
+            intKeys = new int[length];
+        }
+        return intKeys;
+    }
+
+    private int[] intScratch(int length) {
+        if (intScratch.length < length) {
+            intScratch = new int[length];
+        }
+        return intScratch;
+    }
+
+    private long[] longKeys(int length) {
+        if (longKeys.length < length) {
+            longKeys = new long[length];
+        }
+        return longKeys;
+    }
+
+    private long[] longScratch(int length) {
+        if (longScratch.length < length) {
+            longScratch = new long[length];
+        }
+        return longScratch;
+    }
+
+    private Object[] elementScratch(int length) {
+        if (elementScratch.length < length) {
+            elementScratch = new Object[length];
+        }
+        return elementScratch;
+    }
+}
@@ -0,0 +1,130 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Алгоритмы выбора для {@link Sorter#select}, {@link Sorter#partialSort} и {@link Sorter#topK}.
+ * <p>
+ * Выбор k-го элемента - introselect: трехстороннее разбиение {@link IntroSorter#partition} с тем же выбором
+ * опорного элемента, но после разбиения продолжается только та часть, в которую попал индекс k, поэтому
+ * ожидаемое время O(n). Если глубина превышает 2*log2(n) (неудачные опорные элементы), оставшийся диапазон
+ * досортировывается пирамидальной сортировкой, что ограничивает худший случай O(n log n).
+ */
+final class Selector {
+    private static final int INITIAL_HEAP_CAPACITY = 1024;
+
+    private Selector() {
+    }
+
+    /**
+     * Переставляет диапазон [from, to) так, что на позиции k стоит элемент, который стоял бы там после сортировки,
+     * слева от него - не большие, справа - не меньшие элементы.
+     */
+    static <T> void select(Object[] elements, int from, int to, int k, Comparator<? super T> comparator) {
+        int low = from;
+        int high = to;
+        int depthLimit = IntroSorter.depthLimit(to - from);
+        while (high - low > IntroSorter.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                IntroSorter.heapSort(elements, low, high, comparator);
+                return;
+            }
+            long bounds = IntroSorter.partition(elements, low, high, comparator);
+            int lt = IntroSorter.lowerBound(bounds);
+            int gt = IntroSorter.upperBound(bounds);
+            if (k < lt) {
+                high = lt;
+            } else if (k >= gt) {
+                low = gt;
+            } else {
+                return;
+            }
+        }
+        IntroSorter.insertionSort(elements, low, high, comparator);
+    }
+
+    /**
+     * Переставляет диапазон [from, to) так, что первые k позиций занимают k наименьших элементов
+     * в отсортированном порядке. O(n + k log k).
+     */
+    static <T> void partialSort(Object[] elements, int from, int to, int k, Comparator<? super T> comparator) {
+        if (k == 0) {
+            return;
+        }
+        if (from + k < to) {
+            select(elements, from, to, from + k - 1, comparator);
+        }
+        IntroSorter.sort(elements, from, from + k, comparator);
+    }
+
+    /**
+     * Выбирает k наименьших элементов за один проход, храня только пирамиду из k элементов с наибольшим
+     * из отобранных в корне. O(n log k) времени и O(k) памяти.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CustomArrayList<T> topK(Iterable<? extends T> elements, int k, Comparator<? super T> comparator) {
+        // k может быть намного больше длины последовательности, поэтому пирамида растет по мере заполнения
+        Object[] heap = new Object[Math.min(k, INITIAL_HEAP_CAPACITY)];
+        int size = 0;
+        if (k > 0) {
+            for (T element : elements) {
+                if (size < k) {
+                    if (size == heap.length) {
+                        heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+                    }
+                    heap[size] = element;
+                    siftUp(heap, size++, comparator);
+                } else if (comparator.compare(element, (T) heap[0]) < 0) {
+                    heap[0] = element;
+                    siftDown(heap, size, comparator);
+                }
+            }
+        }
+        for (int end = size - 1; end > 0; end--) {
+            Object top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, end, comparator);
+        }
+        CustomArrayList<T> result = new CustomArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add((T) heap[i]);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftUp(Object[] heap, int index, Comparator<? super T> comparator) {
+        T value = (T) heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(value, (T) heap[parent]) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftDown(Object[] heap, int length, Comparator<? super T> comparator) {
+        T value = (T) heap[0];
+        int root = 0;
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && comparator.compare((T) heap[child], (T) heap[child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(value, (T) heap[child]) >= 0) {
+                break;
+            }
+            heap[root] = heap[child];
+            root = child;
+        }
+        heap[root] = value;
+    }
+}
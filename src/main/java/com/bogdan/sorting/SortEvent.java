@@ -0,0 +1,57 @@
+package com.bogdan.sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.Comparator;
+
+/**
+ * Событие JFR о вызове {@link Sorter#sort}. По умолчанию записываются только сортировки дольше 10 мс, порог
+ * меняется в настройках записи ({@code com.bogdan.Sort#threshold}). Поля заполняются только для событий, которые
+ * будут записаны; при выключенном событии объект не покидает метод и JIT убирает его выделение.
+ */
+@Name(SortEvent.NAME)
+@Label("Sort")
+@Category({"Bogdan", "Collections"})
+@Description("Sorter.sort call")
+@Threshold("10 ms")
+@StackTrace
+final class SortEvent extends Event {
+    static final String NAME = "com.bogdan.Sort";
+
+    @Label("Sorter")
+    Class<?> sorter;
+
+    @Label("Comparator")
+    Class<?> comparator;
+
+    @Label("Size")
+    int size;
+
+    /**
+     * Создает событие и отмечает начало сортировки.
+     */
+    static SortEvent start() {
+        SortEvent event = new SortEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Отмечает конец сортировки и записывает событие, если оно включено и превысило порог.
+     */
+    void finish(Sorter sorter, Comparator<?> comparator, int size) {
+        end();
+        if (shouldCommit()) {
+            this.sorter = sorter.getClass();
+            this.comparator = comparator.getClass();
+            this.size = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.bogdan.sorting;
+
+import com.bogdan.metrics.Metrics;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Метрики вызовов {@link Sorter#sort} у {@link QuickSorter}, {@link IntroSorter}, {@link TimSorter}
+ * и {@link ParallelQuickSorter}: вызовы компаратора, обмены элементов и наибольшая глубина рекурсии
+ * (у TimSorter учитываются только сравнения).
+ * <p>
+ * Собираются только при {@link Metrics#ENABLED}; тогда MBean регистрируется как {@code com.bogdan:type=SortMetrics}.
+ * На время сортировки в потоке устанавливается {@link Probe} с обычными (не атомарными) полями: компаратор
+ * оборачивается считающим, а swap и рекурсивный спуск отмечаются в пробе текущего потока. По завершении
+ * сортировки значения пробы один раз добавляются в общие {@link LongAdder}. Параллельная сортировка дает каждой
+ * задаче fork/join свою пробу ({@link Probe#fork()}), устанавливаемую в потоке на время задачи
+ * ({@link #run(Probe, Runnable)}), и сливает пробы подзадач в пробу родителя после их join, поэтому поля проб
+ * по-прежнему не атомарные. Вызовы ядер IntroSorter вне учитываемой сортировки (выбор k-го элемента) пробы
+ * не имеют и не учитываются.
+ */
+public final class SortMetrics implements SortMetricsMBean {
+    private static final SortMetrics INSTANCE = new SortMetrics();
+    private static final ThreadLocal<Probe> CURRENT = new ThreadLocal<>();
+
+    static {
+        if (Metrics.ENABLED) {
+            Metrics.register("SortMetrics", INSTANCE);
+        }
+    }
+
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private volatile Probe last = new Probe(0);
+
+    private SortMetrics() {
+    }
+
+    /**
+     * @return метрики сортировок этой JVM; при выключенных метриках все значения нулевые
+     */
+    public static SortMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Выполняет сортировку с пробой текущего потока и добавляет ее значения в счетчики. Вложенная сортировка
+     * (например, sort внутри sortByKey) учитывается отдельно, проба внешней сортировки восстанавливается после нее.
+     * @param comparator компаратор сортировки
+     * @param sort сортировка, получающая считающий компаратор
+     */
+    static <T> void record(Comparator<T> comparator, Consumer<Comparator<T>> sort) {
+        record(probe -> sort.accept(probe.counting(comparator)));
+    }
+
+    /**
+     * Выполняет сортировку с пробой текущего потока и добавляет ее значения в счетчики. Сортировка сама считает
+     * сравнения через {@link Probe#counting(Comparator)}; так учитываются сортировки, передающие части работы
+     * в другие потоки.
+     * @param sort сортировка, получающая пробу
+     */
+    static void record(Consumer<Probe> sort) {
+        Probe probe = new Probe(0);
+        run(probe, () -> sort.accept(probe));
+        INSTANCE.sorts.increment();
+        INSTANCE.comparisons.add(probe.comparisons);
+        INSTANCE.swaps.add(probe.swaps);
+        INSTANCE.maxDepth.accumulate(probe.maxDepth);
+        INSTANCE.last = probe;
+    }
+
+    /**
+     * Выполняет часть сортировки с заданной пробой текущего потока и восстанавливает прежнюю пробу потока.
+     * @param probe проба части сортировки
+     * @param part часть сортировки
+     */
+    static void run(Probe probe, Runnable part) {
+        Probe outer = CURRENT.get();
+        CURRENT.set(probe);
+        try {
+            part.run();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    static void swap() {
+        Probe probe = CURRENT.get();
+        if (probe != null) {
+            probe.swaps++;
+        }
+    }
+
+    static void enter() {
+        Probe probe = CURRENT.get();
+        if (probe != null && ++probe.depth > probe.maxDepth) {
+            probe.maxDepth = probe.depth;
+        }
+    }
+
+    static void exit() {
+        Probe probe = CURRENT.get();
+        if (probe != null) {
+            probe.depth--;
+        }
+    }
+
+    @Override
+    public long getSorts() {
+        return sorts.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    @Override
+    public long getLastComparisons() {
+        return last.comparisons;
+    }
+
+    @Override
+    public long getLastSwaps() {
+        return last.swaps;
+    }
+
+    @Override
+    public int getLastDepth() {
+        return last.maxDepth;
+    }
+
+    @Override
+    public void reset() {
+        sorts.reset();
+        comparisons.reset();
+        swaps.reset();
+        maxDepth.reset();
+        last = new Probe(0);
+    }
+
+    /**
+     * Счетчики одной сортировки или одной задачи параллельной сортировки; изменяются только потоком,
+     * выполняющим эту задачу.
+     */
+    static final class Probe {
+        private long comparisons;
+        private long swaps;
+        private int depth;
+        private int maxDepth;
+
+        private Probe(int depth) {
+            this.depth = depth;
+            this.maxDepth = depth;
+        }
+
+        /**
+         * @return компаратор, считающий свои вызовы в этой пробе; используется только потоком пробы
+         */
+        <T> Comparator<T> counting(Comparator<T> comparator) {
+            return (a, b) -> {
+                comparisons++;
+                return comparator.compare(a, b);
+            };
+        }
+
+        /**
+         * @return проба подзадачи, рекурсивный спуск которой начинается на уровень ниже текущего
+         */
+        Probe fork() {
+            return new Probe(depth + 1);
+        }
+
+        /**
+         * Добавляет значения пробы завершенной подзадачи; вызывается после ее join.
+         */
+        void merge(Probe child) {
+            comparisons += child.comparisons;
+            swaps += child.swaps;
+            maxDepth = Math.max(maxDepth, child.maxDepth);
+        }
+    }
+}
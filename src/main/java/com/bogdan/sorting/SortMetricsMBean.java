@@ -0,0 +1,46 @@
+package com.bogdan.sorting;
+
+/**
+ * JMX-интерфейс метрик сортировок, см. {@link SortMetrics}.
+ */
+public interface SortMetricsMBean {
+    /**
+     * @return число учтенных вызовов sort
+     */
+    long getSorts();
+
+    /**
+     * @return сумма вызовов компаратора по всем сортировкам
+     */
+    long getComparisons();
+
+    /**
+     * @return сумма обменов элементов по всем сортировкам
+     */
+    long getSwaps();
+
+    /**
+     * @return наибольшая глубина рекурсии среди всех сортировок
+     */
+    long getMaxDepth();
+
+    /**
+     * @return вызовы компаратора в последней завершенной сортировке
+     */
+    long getLastComparisons();
+
+    /**
+     * @return обмены элементов в последней завершенной сортировке
+     */
+    long getLastSwaps();
+
+    /**
+     * @return глубина рекурсии последней завершенной сортировки
+     */
+    int getLastDepth();
+
+    /**
+     * Обнуляет счетчики.
+     */
+    void reset();
+}
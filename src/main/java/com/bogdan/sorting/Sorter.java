@@ -1,9 +1,96 @@
 package com.bogdan.sorting;
 
+import com.bogdan.list.CustomArrayList;
 import com.bogdan.list.SimpleList;
 
 import java.util.Comparator;
+import java.util.function.Function;
 
 public interface Sorter {
     <T> void sort(SimpleList<T> list, Comparator<T> comparator);
+
+    /**
+     * Сортирует список по ключу, вычисляя ключ каждого элемента ровно один раз (decorate-sort-undecorate).
+     * Элементы оборачиваются в пары с ключом, пары сортируются этой же сортировкой с компаратором ключей, и
+     * элементы записываются обратно в список одним проходом. Число вызовов keyExtractor - n вместо O(n log n)
+     * при компараторе, извлекающем ключи на каждом сравнении; ценой n дополнительных объектов-пар.
+     * Устойчивость такая же, как у самой сортировки.
+     * @param list список для сортировки
+     * @param keyExtractor функция ключа, например разбор строки или доступ к вложенному полю
+     * @param keyComparator компаратор ключей
+     * @param <T> тип элемента списка
+     * @param <K> тип ключа
+     */
+    default <T, K> void sortByKey(SimpleList<T> list, Function<? super T, ? extends K> keyExtractor,
+                                  Comparator<? super K> keyComparator) {
+        final int size = list.size();
+        if (size < 2) {
+            return;
+        }
+        CustomArrayList<KeyedElement<K, T>> decorated = new CustomArrayList<>(size);
+        ElementsAccess.apply(list, (elements, from, to) -> {
+            for (int i = from; i < to; i++) {
+                @SuppressWarnings("unchecked") T element = (T) elements[i];
+                decorated.add(new KeyedElement<>(keyExtractor.apply(element), element));
+            }
+            sort(decorated, (a, b) -> keyComparator.compare(a.key(), b.key()));
+            for (int i = from; i < to; i++) {
+                elements[i] = decorated.get(i - from).element();
+            }
+        });
+    }
+
+    /**
+     * Находит элемент, который стоял бы на позиции k после сортировки, за ожидаемое O(n) (introselect с
+     * переходом на пирамидальную сортировку при плохих опорных элементах, O(n log n) в худшем случае).
+     * Список переставляется: на позиции k оказывается найденный элемент, слева - не большие, справа - не меньшие.
+     * @param list список для выбора
+     * @param k позиция в отсортированном порядке, например size / 2 для медианы
+     * @param comparator компаратор элементов
+     * @return k-й по порядку элемент
+     * @throws IllegalArgumentException если k выходит за пределы списка
+     */
+    default <T> T select(SimpleList<T> list, int k, Comparator<T> comparator) {
+        if (k < 0 || k >= list.size()) {
+            throw new IllegalArgumentException("Illegal index: " + k);
+        }
+        Object[] selected = new Object[1];
+        ElementsAccess.apply(list, (elements, from, to) -> {
+            Selector.select(elements, from, to, from + k, comparator);
+            selected[0] = elements[from + k];
+        });
+        @SuppressWarnings("unchecked") T element = (T) selected[0];
+        return element;
+    }
+
+    /**
+     * Сортирует только первые k позиций: после вызова они содержат k наименьших элементов в порядке компаратора,
+     * остальные элементы остаются в произвольном порядке. O(n + k log k) вместо O(n log n) полной сортировки.
+     * @param list список для частичной сортировки
+     * @param k количество сортируемых позиций, от 0 до size
+     * @param comparator компаратор элементов
+     * @throws IllegalArgumentException если k выходит за пределы диапазона
+     */
+    default <T> void partialSort(SimpleList<T> list, int k, Comparator<T> comparator) {
+        if (k < 0 || k > list.size()) {
+            throw new IllegalArgumentException("Illegal index: " + k);
+        }
+        ElementsAccess.apply(list, (elements, from, to) -> Selector.partialSort(elements, from, to, k, comparator));
+    }
+
+    /**
+     * Выбирает k первых в порядке компаратора элементов из последовательности любой длины за один проход,
+     * храня в памяти только k элементов. Для k наибольших передается обратный компаратор.
+     * @param elements исходные элементы; последовательность не изменяется
+     * @param k количество выбираемых элементов
+     * @param comparator компаратор элементов
+     * @return новый список из не более чем k элементов, отсортированный по компаратору
+     * @throws IllegalArgumentException если k отрицательно
+     */
+    static <T> CustomArrayList<T> topK(Iterable<? extends T> elements, int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal size: " + k);
+        }
+        return Selector.topK(elements, k, comparator);
+    }
 }
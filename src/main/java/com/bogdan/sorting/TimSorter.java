@@ -0,0 +1,582 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.SimpleList;
+import com.bogdan.metrics.Metrics;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс реализующий интерфейс Sorter устойчивой адаптивной сортировкой слиянием (по типу TimSort).
+ * Список просматривается слева направо и разбивается на уже упорядоченные серии: возрастающие серии берутся как есть,
+ * строго убывающие разворачиваются. Короткие серии дополняются до минимальной длины бинарными вставками.
+ * Серии складываются в стек и сливаются так, чтобы длины соседних серий были сбалансированы; при слиянии,
+ * когда одна из серий много раз подряд "выигрывает", включается галопирующий режим - экспоненциальный
+ * и затем бинарный поиск места вставки вместо поэлементного сравнения.
+ * <p>
+ * Сортировка устойчивая: равные элементы сохраняют взаимный порядок, поэтому сортировку по нескольким ключам можно
+ * выполнять последовательными проходами, начиная с младшего ключа. На почти упорядоченных данных сортировка
+ * выполняется за время, близкое к O(n).
+ * <p>
+ * Буфер слияния хранится в экземпляре и переиспользуется между вызовами, поэтому экземпляр не потокобезопасен:
+ * для сортировки из нескольких потоков нужен отдельный TimSorter на поток. После каждой сортировки ссылки на элементы
+ * в буфере обнуляются, сам массив буфера остается для следующих вызовов.
+ */
+public class TimSorter implements Sorter {
+    /**
+     * Списки короче этой длины сортируются одними бинарными вставками; это же значение задает
+     * минимальную длину серии.
+     */
+    private static final int MIN_MERGE = 32;
+    /**
+     * Начальный порог перехода в галопирующий режим.
+     */
+    private static final int MIN_GALLOP = 7;
+    /**
+     * Глубины стека серий достаточно для любых массивов длиной до Integer.MAX_VALUE.
+     */
+    private static final int MAX_STACK_SIZE = 49;
+
+    /**
+     * Буфер слияния, переиспользуемый между вызовами.
+     */
+    private Object[] buffer = new Object[0];
+
+    /**
+     * Метод устойчивой сортировки передаваемого списка. При включенных метриках вызов учитывается
+     * в {@link SortMetrics}; обменов и рекурсии у сортировки слиянием нет, поэтому считаются только сравнения.
+     * @param list передаваемый список для сортировки
+     * @param comparator тип компаратора для выбора поля сортировки
+     * @param <T> тип элемента который передается в метод сортировки.
+     * @throws IllegalArgumentException если компаратор нарушает контракт Comparator
+     */
+    @Override
+    public <T> void sort(SimpleList<T> list, Comparator<T> comparator) {
+        if (list.size() < 2) {
+            return;
+        }
+        SortEvent event = SortEvent.start();
+        if (Metrics.ENABLED) {
+            SortMetrics.record(comparator, counting -> ElementsAccess.apply(list,
+                    (elements, from, to) -> sort(elements, from, to, counting)));
+        } else {
+            ElementsAccess.apply(list, (elements, from, to) -> sort(elements, from, to, comparator));
+        }
+        event.finish(this, comparator, list.size());
+    }
+
+    /**
+     * Сортирует диапазон массива [from, to).
+     */
+    <T> void sort(Object[] elements, int from, int to, Comparator<? super T> comparator) {
+        new Merger<T>(elements, comparator).sort(from, to);
+    }
+
+    /**
+     * Возвращает буфер длиной не меньше заданной, при необходимости увеличивая его.
+     */
+    private Object[] ensureBuffer(int minCapacity, int sortLength) {
+        if (buffer.length < minCapacity) {
+            int newCapacity = Integer.highestOneBit(minCapacity) << 1;
+            if (newCapacity < 0) {
+                newCapacity = minCapacity;
+            } else {
+                newCapacity = Math.max(minCapacity, Math.min(newCapacity, sortLength >>> 1));
+            }
+            buffer = new Object[newCapacity];
+        }
+        return buffer;
+    }
+
+    /**
+     * Состояние одной сортировки: массив, компаратор и стек найденных серий.
+     */
+    private final class Merger<T> {
+        private final Object[] elements;
+        private final Comparator<? super T> comparator;
+        private final int[] runBase = new int[MAX_STACK_SIZE];
+        private final int[] runLength = new int[MAX_STACK_SIZE];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;
+        private int sortLength;
+        private int bufferUsed;
+
+        private Merger(Object[] elements, Comparator<? super T> comparator) {
+            this.elements = elements;
+            this.comparator = comparator;
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(Object x, Object y) {
+            return comparator.compare((T) x, (T) y);
+        }
+
+        private void sort(int low, int high) {
+            int remaining = high - low;
+            if (remaining < 2) {
+                return;
+            }
+            if (remaining < MIN_MERGE) {
+                int initialRunLength = countRunAndMakeAscending(low, high);
+                binarySort(low, high, low + initialRunLength);
+                return;
+            }
+            sortLength = remaining;
+            try {
+                int minRun = minRunLength(remaining);
+                do {
+                    int currentRunLength = countRunAndMakeAscending(low, high);
+                    if (currentRunLength < minRun) {
+                        int forced = Math.min(remaining, minRun);
+                        binarySort(low, low + forced, low + currentRunLength);
+                        currentRunLength = forced;
+                    }
+                    pushRun(low, currentRunLength);
+                    mergeCollapse();
+
+                    low += currentRunLength;
+                    remaining -= currentRunLength;
+                } while (remaining != 0);
+                mergeForceCollapse();
+            } finally {
+                Arrays.fill(buffer, 0, bufferUsed, null);
+            }
+        }
+
+        /**
+         * Сортирует диапазон [low, high) бинарными вставками, считая что [low, start) уже упорядочен.
+         */
+        private void binarySort(int low, int high, int start) {
+            if (start == low) {
+                start++;
+            }
+            for (; start < high; start++) {
+                Object pivot = elements[start];
+                int left = low;
+                int right = start;
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (compare(pivot, elements[mid]) < 0) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                System.arraycopy(elements, left, elements, left + 1, start - left);
+                elements[left] = pivot;
+            }
+        }
+
+        /**
+         * Находит длину серии, начинающейся в low. Строго убывающая серия разворачивается, чтобы сохранить
+         * устойчивость, равные элементы в убывающую серию не включаются.
+         */
+        private int countRunAndMakeAscending(int low, int high) {
+            int runHigh = low + 1;
+            if (runHigh == high) {
+                return 1;
+            }
+            if (compare(elements[runHigh++], elements[low]) < 0) {
+                while (runHigh < high && compare(elements[runHigh], elements[runHigh - 1]) < 0) {
+                    runHigh++;
+                }
+                reverseRange(low, runHigh);
+            } else {
+                while (runHigh < high && compare(elements[runHigh], elements[runHigh - 1]) >= 0) {
+                    runHigh++;
+                }
+            }
+            return runHigh - low;
+        }
+
+        private void reverseRange(int low, int high) {
+            high--;
+            while (low < high) {
+                Object temp = elements[low];
+                elements[low++] = elements[high];
+                elements[high--] = temp;
+            }
+        }
+
+        private int minRunLength(int length) {
+            int r = 0;
+            while (length >= MIN_MERGE) {
+                r |= (length & 1);
+                length >>= 1;
+            }
+            return length + r;
+        }
+
+        private void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Сливает серии на вершине стека, пока не выполняются инварианты
+         * runLength[i - 2] > runLength[i - 1] + runLength[i] и runLength[i - 1] > runLength[i].
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Сливает серии i и i + 1 стека.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Элементы начала первой серии, не превосходящие начало второй, уже на своих местах.
+            int k = gallopRight(elements[base2], elements, base1, length1, 0);
+            base1 += k;
+            length1 -= k;
+            if (length1 == 0) {
+                return;
+            }
+            // Элементы конца второй серии, не меньшие конца первой, уже на своих местах.
+            length2 = gallopLeft(elements[base1 + length1 - 1], elements, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Ищет самую левую позицию в отсортированном диапазоне [base, base + length), куда можно вставить key.
+         * Поиск начинается от hint экспоненциальными шагами и завершается бинарным поиском.
+         */
+        private int gallopLeft(Object key, Object[] array, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (compare(key, array[base + hint]) > 0) {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compare(key, array[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compare(key, array[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compare(key, array[base + mid]) > 0) {
+                    lastOffset = mid + 1;
+                } else {
+                    offset = mid;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Ищет самую правую позицию в отсортированном диапазоне [base, base + length), куда можно вставить key,
+         * то есть после всех равных ему элементов.
+         */
+        private int gallopRight(Object key, Object[] array, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (compare(key, array[base + hint]) < 0) {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compare(key, array[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            } else {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compare(key, array[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compare(key, array[base + mid]) < 0) {
+                    offset = mid;
+                } else {
+                    lastOffset = mid + 1;
+                }
+            }
+            return offset;
+        }
+
+        private Object[] buffer(int minCapacity) {
+            Object[] temp = ensureBuffer(minCapacity, sortLength);
+            bufferUsed = Math.max(bufferUsed, minCapacity);
+            return temp;
+        }
+
+        /**
+         * Слияние слева направо, первая серия (не длиннее второй) копируется в буфер.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            final Object[] a = elements;
+            final Object[] temp = buffer(length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+            System.arraycopy(a, base1, temp, 0, length1);
+
+            a[dest++] = a[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, a, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = temp[cursor1];
+                return;
+            }
+
+            int gallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                do {
+                    if (compare(a[cursor2], temp[cursor1]) < 0) {
+                        a[dest++] = a[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest++] = temp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = gallopRight(a[cursor2], temp, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(temp, cursor1, a, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = a[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(temp[cursor1], a, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = temp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (gallop < 0) {
+                    gallop = 0;
+                }
+                gallop += 2;
+            }
+            this.minGallop = Math.max(gallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = temp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            } else {
+                System.arraycopy(temp, cursor1, a, dest, length1);
+            }
+        }
+
+        /**
+         * Слияние справа налево, вторая серия (короче первой) копируется в буфер.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            final Object[] a = elements;
+            final Object[] temp = buffer(length2);
+            System.arraycopy(a, base2, temp, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            a[dest--] = a[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = temp[cursor2];
+                return;
+            }
+
+            int gallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                do {
+                    if (compare(temp[cursor2], a[cursor1]) < 0) {
+                        a[dest--] = a[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest--] = temp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = length1 - gallopRight(temp[cursor2], a, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = temp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(a[cursor1], temp, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(temp, cursor2 + 1, a, dest + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = a[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (gallop < 0) {
+                    gallop = 0;
+                }
+                gallop += 2;
+            }
+            this.minGallop = Math.max(gallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = temp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            } else {
+                System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+            }
+        }
+    }
+}
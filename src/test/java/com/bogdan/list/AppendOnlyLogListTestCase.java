@@ -0,0 +1,104 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AppendOnlyLogListTestCase {
+
+    @Test
+    public void addElements_shouldSpanSegments() {
+        AppendOnlyLogList<Integer> list = new AppendOnlyLogList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i % 7 == 0 ? null : i);
+        }
+        list.addAll(List.of(-1, -2, -3));
+
+        Assert.assertEquals(10_003, list.size());
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(i % 7 == 0 ? null : i, list.get(i));
+        }
+        Assert.assertEquals(Integer.valueOf(-3), list.get(10_002));
+        Assert.assertEquals(10_003, list.stream().count());
+    }
+
+    @Test
+    public void concurrentProducers_shouldPublishEveryElement() throws Exception {
+        AppendOnlyLogList<long[]> list = new AppendOnlyLogList<>();
+        int producers = 64;
+        int perProducer = 5_000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try (ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> readerResults = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readerResults.add(readers.submit(() -> {
+                    long[] lastSeen = new long[producers];
+                    while (!done.get()) {
+                        // все элементы ниже size опубликованы, а элементы одного производителя идут по порядку
+                        Arrays.fill(lastSeen, -1);
+                        for (long[] event : list) {
+                            Assert.assertNotNull(event);
+                            int producer = (int) event[0];
+                            Assert.assertTrue(event[1] > lastSeen[producer]);
+                            lastSeen[producer] = event[1];
+                        }
+                    }
+                }));
+            }
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                writers.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        if (i % 10 == 0) {
+                            list.addAll(List.of(new long[]{producer, i}, new long[]{producer, i + 1}));
+                            i++;
+                        } else {
+                            list.add(new long[]{producer, i});
+                        }
+                    }
+                });
+            }
+            writers.shutdown();
+            Assert.assertTrue(writers.awaitTermination(30, TimeUnit.SECONDS));
+            done.set(true);
+            for (Future<?> reader : readerResults) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            done.set(true);
+            readers.shutdownNow();
+        }
+
+        Assert.assertEquals(producers * perProducer, list.size());
+        int[] counts = new int[producers];
+        for (long[] event : list) {
+            counts[(int) event[0]]++;
+        }
+        for (int count : counts) {
+            Assert.assertEquals(perProducer, count);
+        }
+    }
+
+    @Test
+    public void otherModifications_shouldThrowException() {
+        AppendOnlyLogList<Integer> list = new AppendOnlyLogList<>();
+        list.add(1);
+
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.add(0, 2));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.set(0, 2));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.remove(Integer.valueOf(1)));
+        Assert.assertThrows(UnsupportedOperationException.class, list::clear);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.removeIf(value -> true));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(1));
+    }
+}
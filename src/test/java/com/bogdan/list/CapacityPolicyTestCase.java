@@ -0,0 +1,158 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class CapacityPolicyTestCase {
+
+    @Test
+    public void defaultPolicy_shouldGrowByHalfAndNeverShrink() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, 11);
+        Assert.assertEquals(15, list.getCapacity());
+        fill(list, 5);
+        Assert.assertEquals(22, list.getCapacity());
+
+        list.removeRange(0, list.size());
+        list.clear();
+
+        Assert.assertSame(CapacityPolicy.DEFAULT, list.getCapacityPolicy());
+        Assert.assertEquals(22, list.getCapacity());
+    }
+
+    @Test
+    public void growthFactor_shouldMultiplyCapacity() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(4, CapacityPolicy.growthFactor(2.0));
+        fill(list, 5);
+        Assert.assertEquals(8, list.getCapacity());
+        fill(list, 4);
+        Assert.assertEquals(16, list.getCapacity());
+    }
+
+    @Test
+    public void fixedIncrement_shouldAddIncrementOrRequiredLength() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(4, CapacityPolicy.fixedIncrement(100));
+        fill(list, 5);
+        Assert.assertEquals(104, list.getCapacity());
+
+        CustomArrayList<Integer> bulk = new CustomArrayList<>(0, CapacityPolicy.fixedIncrement(2));
+        bulk.addAll(List.of(1, 2, 3, 4, 5));
+        Assert.assertEquals(5, bulk.getCapacity());
+    }
+
+    @Test
+    public void remove_shouldShrinkWhenSlackExceedsThreshold() {
+        CapacityPolicy policy = CapacityPolicy.growthFactor(2.0).withShrink(0.75, 0.5, 4);
+        CustomArrayList<Integer> list = new CustomArrayList<>(100, policy);
+        fill(list, 100);
+
+        while (list.size() > 25) {
+            list.remove(list.size() - 1);
+        }
+        Assert.assertEquals(100, list.getCapacity());
+        list.remove(0);
+
+        Assert.assertEquals(24, list.size());
+        Assert.assertEquals(48, list.getCapacity());
+        for (int i = 0; i < 24; i++) {
+            Assert.assertEquals(Integer.valueOf(i + 1), list.get(i));
+        }
+    }
+
+    @Test
+    public void listAtBoundary_shouldNotResizeRepeatedly() {
+        CapacityPolicy policy = CapacityPolicy.growthFactor(2.0).withShrink(0.75, 0.5, 4);
+        CustomArrayList<Integer> list = new CustomArrayList<>(100, policy);
+        fill(list, 100);
+        list.removeRange(24, 100);
+        Assert.assertEquals(48, list.getCapacity());
+
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            list.remove(list.size() - 1);
+            list.remove(list.size() - 1);
+            list.add(i);
+        }
+
+        Assert.assertEquals(48, list.getCapacity());
+    }
+
+    @Test
+    public void maxSlackBelowGrowthSlack_shouldNotThrash() {
+        // рост в 1.5 раза оставляет треть массива незанятой, это больше maxSlack = 0.25
+        CapacityPolicy policy = CapacityPolicy.DEFAULT.withShrink(0.25, 0);
+        CustomArrayList<Integer> list = new CustomArrayList<>(policy);
+        fill(list, 100);
+
+        int reallocations = 0;
+        int capacity = list.getCapacity();
+        for (int cycle = 0; cycle < 100; cycle++) {
+            for (int i = 0; i < 30; i++) {
+                list.add(i);
+                if (list.getCapacity() != capacity) {
+                    reallocations++;
+                    capacity = list.getCapacity();
+                }
+            }
+            for (int i = 0; i < 30; i++) {
+                list.remove(list.size() - 1);
+                if (list.getCapacity() != capacity) {
+                    reallocations++;
+                    capacity = list.getCapacity();
+                }
+            }
+        }
+
+        Assert.assertEquals(100, list.size());
+        Assert.assertTrue("reallocations: " + reallocations, reallocations <= 1);
+    }
+
+    @Test
+    public void removeIfAndClear_shouldReleaseCapacity() {
+        CapacityPolicy policy = CapacityPolicy.DEFAULT.withShrink(0.5, 8);
+        CustomArrayList<Integer> list = new CustomArrayList<>(policy);
+        fill(list, 1_000);
+
+        list.removeIf(element -> element % 10 != 0);
+        Assert.assertEquals(100, list.size());
+        Assert.assertEquals(134, list.getCapacity());
+
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(8, list.getCapacity());
+        fill(list, 3);
+        Assert.assertEquals(Integer.valueOf(2), list.get(2));
+    }
+
+    @Test
+    public void shrink_shouldNotGoBelowMinCapacity() {
+        CapacityPolicy policy = CapacityPolicy.fixedIncrement(10).withShrink(0.5, 0.0, 16);
+        CustomArrayList<Integer> list = new CustomArrayList<>(40, policy);
+        fill(list, 40);
+
+        list.removeRange(1, 40);
+
+        Assert.assertEquals(16, list.getCapacity());
+        Assert.assertEquals(Integer.valueOf(0), list.get(0));
+    }
+
+    @Test
+    public void illegalArguments_shouldThrow() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.growthFactor(1.0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.growthFactor(Double.NaN));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.fixedIncrement(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.DEFAULT.withShrink(1.0, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.DEFAULT.withShrink(0.5, 0.5, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> CapacityPolicy.DEFAULT.withShrink(0.5, -1));
+        Assert.assertThrows(NullPointerException.class, () -> new CustomArrayList<Integer>((CapacityPolicy) null));
+    }
+
+    private void fill(CustomArrayList<Integer> list, int count) {
+        int start = list.size();
+        for (int i = 0; i < count; i++) {
+            list.add(start + i);
+        }
+    }
+}
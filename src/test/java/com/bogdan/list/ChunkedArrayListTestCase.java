@@ -0,0 +1,144 @@
+package com.bogdan.list;
+
+import com.bogdan.sorting.IntroSorter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class ChunkedArrayListTestCase {
+
+    @Test
+    public void addElementsToList_shouldAllocateChunksOneByOne() {
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>(3);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(20, list.size());
+        Assert.assertEquals(24, list.getCapacity());
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void createWithIncorrectChunkShift() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ChunkedArrayList<>(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ChunkedArrayList<>(31));
+    }
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(1);
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int position = random.nextInt(expected.size() + 1);
+                    list.add(position, value);
+                    expected.add(position, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(position), list.remove(position));
+                    }
+                }
+                case 3 -> Assert.assertEquals(expected.remove(Integer.valueOf(value)),
+                        list.remove(Integer.valueOf(value)));
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                    }
+                }
+            }
+        }
+        assertSameContent(expected, list);
+    }
+
+    @Test
+    public void removeRange_shouldShiftTailAcrossChunks() {
+        Random random = new Random(4);
+        for (int round = 0; round < 200; round++) {
+            ChunkedArrayList<Integer> list = new ChunkedArrayList<>(3);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 61; i++) {
+                list.add(i);
+                expected.add(i);
+            }
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+
+            list.removeRange(from, to);
+            expected.subList(from, to).clear();
+
+            assertSameContent(expected, list);
+            list.add(-1);
+            expected.add(-1);
+            assertSameContent(expected, list);
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ChunkedArrayList<Integer>().removeRange(1, 0));
+    }
+
+    @Test
+    public void removeIfAndSort() {
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 50; i > 0; i--) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        list.removeIf(value -> value % 3 == 0);
+        expected.removeIf(value -> value % 3 == 0);
+        new IntroSorter().sort(list, Comparator.naturalOrder());
+        expected.sort(Comparator.naturalOrder());
+
+        assertSameContent(expected, list);
+    }
+
+    @Test
+    public void trimToSize_shouldReleaseEmptyChunks() {
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>(2);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.removeRange(5, 20);
+
+        list.trimToSize();
+
+        Assert.assertEquals(8, list.getCapacity());
+        list.add(5);
+        Assert.assertEquals(6, list.size());
+    }
+
+    @Test
+    public void clearList_ShouldBeEmpty() {
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+        list.add(1);
+
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(0));
+    }
+
+    private void assertSameContent(List<Integer> expected, SimpleList<Integer> list) {
+        Assert.assertEquals(expected.size(), list.size());
+        int i = 0;
+        for (Integer value : list) {
+            Assert.assertEquals(expected.get(i++), value);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.bogdan.list;
+
+import com.bogdan.sorting.IntroSorter;
+import com.bogdan.sorting.TimSorter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class CircularArrayListTestCase {
+
+    @Test
+    public void addAndRemoveAtBothEnds() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(4);
+        list.addLast(2);
+        list.addFirst(1);
+        list.add(3);
+        list.add(0, 0);
+
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals(4, list.getCapacity());
+        Assert.assertEquals(Integer.valueOf(0), list.getFirst());
+        Assert.assertEquals(Integer.valueOf(3), list.getLast());
+        Assert.assertEquals(Integer.valueOf(0), list.removeFirst());
+        Assert.assertEquals(Integer.valueOf(3), list.removeLast());
+        Assert.assertEquals(Integer.valueOf(1), list.remove(0));
+        Assert.assertEquals(Integer.valueOf(2), list.get(0));
+    }
+
+    @Test
+    public void removeFromEmptyList() {
+        CircularArrayList<Integer> list = new CircularArrayList<>();
+
+        Assert.assertThrows(NoSuchElementException.class, list::removeFirst);
+        Assert.assertThrows(NoSuchElementException.class, list::getLast);
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void slidingWindow_shouldNotGrow() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 1000; i++) {
+            if (list.size() == 8) {
+                list.remove(0);
+            }
+            list.add(i);
+        }
+
+        Assert.assertEquals(8, list.getCapacity());
+        Assert.assertEquals(Integer.valueOf(992), list.get(0));
+        Assert.assertEquals(Integer.valueOf(999), list.get(7));
+    }
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(1);
+        CircularArrayList<Integer> list = new CircularArrayList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int position = random.nextInt(expected.size() + 1);
+                    list.add(position, value);
+                    expected.add(position, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(position), list.remove(position));
+                    }
+                }
+                case 3 -> Assert.assertEquals(expected.remove(Integer.valueOf(value)),
+                        list.remove(Integer.valueOf(value)));
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                    }
+                }
+            }
+        }
+        assertSameContent(expected, list);
+    }
+
+    @Test
+    public void removeRange_shouldMatchArrayListOnWrappedBuffer() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            CircularArrayList<Integer> list = new CircularArrayList<>(64);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                list.addFirst(-i);
+                expected.add(0, -i);
+                list.addLast(i);
+                expected.add(i);
+            }
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+
+            list.removeRange(from, to);
+            expected.subList(from, to).clear();
+
+            assertSameContent(expected, list);
+            list.addFirst(100);
+            list.addLast(200);
+            Assert.assertEquals(Integer.valueOf(100), list.getFirst());
+            Assert.assertEquals(Integer.valueOf(200), list.getLast());
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<Integer>().removeRange(0, 1));
+    }
+
+    @Test
+    public void sortWrappedList_shouldWorkThroughSorter() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(16);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            list.removeFirst();
+            list.addLast(100 - i);
+            list.addFirst(i);
+        }
+        for (Integer value : list) {
+            expected.add(value);
+        }
+
+        new IntroSorter().sort(list, Comparator.naturalOrder());
+        expected.sort(Comparator.naturalOrder());
+        assertSameContent(expected, list);
+
+        new TimSorter().sort(list, Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        assertSameContent(expected, list);
+    }
+
+    @Test
+    public void trimToSize_shouldKeepPowerOfTwo() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(64);
+        for (int i = 0; i < 5; i++) {
+            list.addFirst(i);
+        }
+
+        list.trimToSize();
+
+        Assert.assertEquals(8, list.getCapacity());
+        Assert.assertEquals(Integer.valueOf(4), list.get(0));
+        Assert.assertEquals(Integer.valueOf(0), list.get(4));
+    }
+
+    private void assertSameContent(List<Integer> expected, SimpleList<Integer> list) {
+        Assert.assertEquals(expected.size(), list.size());
+        int i = 0;
+        for (Integer value : list) {
+            Assert.assertEquals(expected.get(i++), value);
+        }
+    }
+}
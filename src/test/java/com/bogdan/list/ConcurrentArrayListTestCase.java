@@ -0,0 +1,196 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentArrayListTestCase {
+    private static final int THREADS = 4;
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(1);
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int position = random.nextInt(expected.size() + 1);
+                    list.add(position, value);
+                    expected.add(position, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(position), list.remove(position));
+                    }
+                }
+                case 3 -> Assert.assertEquals(expected.remove(Integer.valueOf(value)),
+                        list.remove(Integer.valueOf(value)));
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                    }
+                }
+            }
+        }
+
+        Assert.assertEquals(expected, list.stream().toList());
+        list.removeIf(value -> value % 2 == 0);
+        expected.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(expected, list.stream().toList());
+    }
+
+    @Test
+    public void iterator_shouldNotSeeLaterModifications() {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        list.addAll(List.of(1, 2, 3, 4));
+        Iterator<Integer> iterator = list.iterator();
+        list.remove(0);
+        list.add(5);
+        list.add(0, 6);
+
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        Assert.assertEquals(List.of(1, 2, 3, 4), seen);
+        Assert.assertEquals(List.of(6, 2, 3, 4, 5), list.stream().toList());
+    }
+
+    @Test
+    public void removeLast_shouldCopyOnlyRemainingElements() {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>(10_000);
+        list.addAll(List.of(1, 2, 3, 4));
+        Iterator<Integer> iterator = list.iterator();
+
+        Assert.assertEquals(Integer.valueOf(4), list.remove(3));
+        list.add(5);
+
+        Assert.assertTrue(list.getCapacity() < 10_000);
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        Assert.assertEquals(List.of(1, 2, 3, 4), seen);
+        Assert.assertEquals(List.of(1, 2, 3, 5), list.stream().toList());
+    }
+
+    @Test
+    public void concurrentAppends_shouldKeepEveryElement() throws Exception {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>(0);
+        int perThread = 50_000;
+        runConcurrently(THREADS, thread -> {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < perThread; i++) {
+                int value = thread * perThread + i;
+                if (i % 3 == 0) {
+                    list.add(value);
+                } else {
+                    batch.add(value);
+                    if (batch.size() == 16) {
+                        list.addAll(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            list.addAll(batch);
+        });
+
+        Assert.assertEquals(THREADS * perThread, list.size());
+        boolean[] seen = new boolean[THREADS * perThread];
+        for (Integer value : list) {
+            Assert.assertFalse(seen[value]);
+            seen[value] = true;
+        }
+    }
+
+    @Test
+    public void readersDuringWrites_shouldSeeConsistentState() throws Exception {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < THREADS - 1; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        int size = list.size();
+                        if (size > 0) {
+                            // элементы только добавляются в конец и удаляются из начала парами,
+                            // поэтому любой видимый элемент не null, а снимок упорядочен по возрастанию
+                            Assert.assertNotNull(list.get(Math.max(0, size - 100) / 2));
+                        }
+                        int previous = -1;
+                        for (Integer value : list) {
+                            Assert.assertTrue(value > previous);
+                            previous = value;
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 200_000; i++) {
+                list.add(i);
+                if (i % 100 == 99) {
+                    list.removeRange(0, 50);
+                }
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(100_000, list.size());
+    }
+
+    @Test
+    public void getWithIncorrectIndex() {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        list.add(1);
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(2, 1));
+    }
+
+    private static void runConcurrently(int threads, ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+        void run(int thread);
+    }
+}
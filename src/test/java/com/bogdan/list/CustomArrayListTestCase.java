@@ -5,6 +5,8 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 public class CustomArrayListTestCase {
 
@@ -161,4 +163,138 @@ public class CustomArrayListTestCase {
         list.clear();
         Assert.assertEquals(0, list.size());
     }
+
+    @Test
+    public void applyToElements_shouldExposeOnlyFilledRange() {
+        final int numberElements = 7;
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, numberElements);
+
+        list.applyToElements((elements, from, to) -> {
+            Assert.assertEquals(0, from);
+            Assert.assertEquals(numberElements, to);
+            Assert.assertEquals(list.getCapacity(), elements.length);
+            Object temp = elements[from];
+            elements[from] = elements[to - 1];
+            elements[to - 1] = temp;
+        });
+
+        Assert.assertEquals(Integer.valueOf(numberElements - 1), list.get(0));
+        Assert.assertEquals(Integer.valueOf(0), list.get(numberElements - 1));
+    }
+
+    @Test
+    public void spliteratorShouldSplitInHalves() {
+        final int numberElements = 100;
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, numberElements);
+
+        Spliterator<Integer> second = list.spliterator();
+        Spliterator<Integer> first = second.trySplit();
+
+        Assert.assertNotNull(first);
+        Assert.assertEquals(numberElements / 2, first.estimateSize());
+        Assert.assertEquals(numberElements / 2, second.estimateSize());
+        Assert.assertTrue(second.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    }
+
+    @Test
+    public void streamsShouldSeeAllElementsInOrder() {
+        final int numberElements = 10_000;
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, numberElements);
+
+        List<Integer> collected = list.parallelStream().collect(Collectors.toList());
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+        Assert.assertEquals(numberElements, collected.size());
+        for (int i = 0; i < numberElements; i++) {
+            Assert.assertEquals(Integer.valueOf(i), collected.get(i));
+        }
+        Assert.assertEquals((long) numberElements * (numberElements - 1) / 2, sum);
+        Assert.assertEquals(numberElements, list.stream().count());
+    }
+
+    @Test
+    public void addAllToEnd_shouldGrowOnce() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, 5);
+        List<Integer> added = new ArrayList<>();
+        for (int i = 5; i < 100; i++) {
+            added.add(i);
+        }
+
+        Assert.assertTrue(list.addAll(added));
+        Assert.assertEquals(100, list.size());
+        Assert.assertEquals(100, list.getCapacity());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        Assert.assertFalse(list.addAll(List.of()));
+    }
+
+    @Test
+    public void addAllByIndex() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(1, 2, 3));
+
+        list.addAll(1, List.of(10, 20));
+        list.addAll(list.size(), List.of(30));
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(1, 10, 20, 2, 3, 30)), list);
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.addAll(-1, List.of(1)));
+    }
+
+    @Test
+    public void removeRangeTest() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, 10);
+
+        list.removeRange(2, 5);
+
+        Assert.assertEquals(7, list.size());
+        Assert.assertEquals(Integer.valueOf(1), list.get(1));
+        Assert.assertEquals(Integer.valueOf(5), list.get(2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.removeRange(3, 8));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.removeRange(3, 2));
+    }
+
+    @Test
+    public void removeIfTest() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, 10);
+
+        Assert.assertTrue(list.removeIf(value -> value % 2 == 0));
+        Assert.assertFalse(list.removeIf(value -> value > 100));
+
+        Assert.assertEquals(5, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(2 * i + 1), list.get(i));
+        }
+    }
+
+    @Test
+    public void removeIfWithFailingPredicate_shouldKeepListConsistent() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        fill(list, 10);
+
+        Assert.assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value == 5) {
+                throw new IllegalStateException();
+            }
+            return value < 3;
+        }));
+
+        Assert.assertEquals(7, list.size());
+        Assert.assertEquals(Integer.valueOf(3), list.get(0));
+        Assert.assertEquals(Integer.valueOf(9), list.get(6));
+    }
+
+    @Test
+    public void retainAllTest() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(1, 2, 3, 4, 2));
+
+        Assert.assertTrue(list.retainAll(List.of(2, 4)));
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(2, 4, 2)), list);
+    }
 }
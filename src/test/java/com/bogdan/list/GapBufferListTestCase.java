@@ -0,0 +1,130 @@
+package com.bogdan.list;
+
+import com.bogdan.sorting.IntroSorter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class GapBufferListTestCase {
+
+    @Test
+    public void editsAroundCursor() {
+        GapBufferList<Character> list = new GapBufferList<>(4);
+        for (char c : "hello".toCharArray()) {
+            list.add(c);
+        }
+        list.add(0, 'H');
+        list.remove(1);
+        list.add(5, '!');
+        list.add(5, ',');
+
+        Assert.assertEquals("Hello,!", asString(list));
+        Assert.assertEquals(Character.valueOf('o'), list.get(4));
+    }
+
+    @Test
+    public void randomCursorEdits_shouldMatchArrayList() {
+        Random random = new Random(1);
+        GapBufferList<Integer> list = new GapBufferList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        int cursor = 0;
+        for (int step = 0; step < 20_000; step++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    list.add(cursor, value);
+                    expected.add(cursor, value);
+                }
+                case 2 -> {
+                    if (cursor < expected.size()) {
+                        Assert.assertEquals(expected.remove(cursor), list.remove(cursor));
+                    }
+                }
+                default -> {
+                    if (cursor < expected.size()) {
+                        Assert.assertEquals(expected.set(cursor, value), list.set(cursor, value));
+                    }
+                }
+            }
+            if (!expected.isEmpty()) {
+                int probe = random.nextInt(expected.size());
+                Assert.assertEquals(expected.get(probe), list.get(probe));
+            }
+        }
+        assertSameContent(expected, list);
+    }
+
+    @Test
+    public void removeRange_shouldBeAbsorbedByGap() {
+        Random random = new Random(2);
+        for (int round = 0; round < 200; round++) {
+            GapBufferList<Integer> list = new GapBufferList<>(4);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                int position = random.nextInt(expected.size() + 1);
+                list.add(position, i);
+                expected.add(position, i);
+            }
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+
+            list.removeRange(from, to);
+            expected.subList(from, to).clear();
+
+            assertSameContent(expected, list);
+            list.add(from, -1);
+            expected.add(from, -1);
+            assertSameContent(expected, list);
+        }
+    }
+
+    @Test
+    public void sortAndTrim() {
+        GapBufferList<Integer> list = new GapBufferList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            list.add(i / 2, i);
+            expected.add(i / 2, i);
+        }
+
+        new IntroSorter().sort(list, Comparator.naturalOrder());
+        expected.sort(Comparator.naturalOrder());
+        assertSameContent(expected, list);
+
+        list.trimToSize();
+        Assert.assertEquals(30, list.getCapacity());
+        list.add(3, -1);
+        Assert.assertEquals(Integer.valueOf(-1), list.get(3));
+    }
+
+    @Test
+    public void incorrectIndex() {
+        GapBufferList<Integer> list = new GapBufferList<>();
+        list.add(1);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(2, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.remove(-1));
+    }
+
+    private String asString(GapBufferList<Character> list) {
+        StringBuilder builder = new StringBuilder();
+        for (Character c : list) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private void assertSameContent(List<Integer> expected, SimpleList<Integer> list) {
+        Assert.assertEquals(expected.size(), list.size());
+        int i = 0;
+        for (Integer value : list) {
+            Assert.assertEquals(expected.get(i++), value);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.bogdan.list;
+
+import com.bogdan.sorting.IntroSorter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class IndexedArrayListTestCase {
+
+    @Test
+    public void addElementsToList_shouldBeFoundByIndex() {
+        IndexedArrayList<String> list = new IndexedArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("a");
+
+        Assert.assertTrue(list.contains("a"));
+        Assert.assertFalse(list.contains("c"));
+        Assert.assertEquals(0, list.indexOf("a"));
+        Assert.assertEquals(2, list.lastIndexOf("a"));
+        Assert.assertEquals(1, list.indexOf("b"));
+        Assert.assertEquals(-1, list.indexOf("c"));
+    }
+
+    @Test
+    public void removeByElement_shouldRemoveFirstOccurrence() {
+        IndexedArrayList<String> list = new IndexedArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("a");
+
+        Assert.assertTrue(list.remove("a"));
+        Assert.assertEquals("b", list.get(0));
+        Assert.assertEquals(1, list.indexOf("a"));
+        Assert.assertFalse(list.remove("c"));
+    }
+
+    @Test
+    public void nullElementsAreIndexed() {
+        IndexedArrayList<String> list = new IndexedArrayList<>();
+        list.add("a");
+        list.add(null);
+
+        Assert.assertEquals(1, list.indexOf(null));
+        Assert.assertTrue(list.remove(null));
+        Assert.assertFalse(list.contains(null));
+    }
+
+    @Test
+    public void randomOperations_shouldKeepIndexConsistentWithContent() {
+        Random random = new Random(1);
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(50);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 2 -> {
+                    int position = random.nextInt(expected.size() + 1);
+                    list.add(position, value);
+                    expected.add(position, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(position), list.remove(position));
+                    }
+                }
+                default -> Assert.assertEquals(expected.remove(Integer.valueOf(value)), list.remove(Integer.valueOf(value)));
+            }
+            int probe = random.nextInt(50);
+            Assert.assertEquals(expected.indexOf(probe), list.indexOf(probe));
+            Assert.assertEquals(expected.lastIndexOf(probe), list.lastIndexOf(probe));
+        }
+        Assert.assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    public void bulkOperationsAndSort_shouldRebuildIndex() {
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        for (int i = 10; i > 0; i--) {
+            list.add(i);
+        }
+
+        new IntroSorter().sort(list, Comparator.naturalOrder());
+        Assert.assertEquals(0, list.indexOf(1));
+        Assert.assertEquals(9, list.indexOf(10));
+
+        list.removeIf(value -> value % 2 == 0);
+        Assert.assertEquals(2, list.indexOf(5));
+        Assert.assertFalse(list.contains(4));
+
+        list.removeRange(0, 2);
+        Assert.assertEquals(0, list.indexOf(5));
+
+        list.clear();
+        Assert.assertFalse(list.contains(5));
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void getByIncorrectIndex() {
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        list.add(1);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(2, 1));
+    }
+
+    @Test
+    public void removeByElement_shouldNotTouchUnrelatedElements() {
+        IndexedArrayList<CountingKey> list = new IndexedArrayList<>();
+        List<CountingKey> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            CountingKey key = new CountingKey(i);
+            keys.add(key);
+            list.add(key);
+        }
+        Assert.assertTrue(list.contains(keys.get(0)));
+
+        for (int i = 100; i < 400; i++) {
+            CountingKey removed = keys.get(i);
+            keys.forEach(CountingKey::resetCalls);
+            Assert.assertTrue(list.remove(removed));
+            for (CountingKey key : keys) {
+                if (key != removed) {
+                    Assert.assertEquals(0, key.calls);
+                }
+            }
+        }
+
+        Assert.assertEquals(700, list.size());
+        Assert.assertEquals(keys.get(400), list.get(100));
+        Assert.assertEquals(100, list.indexOf(keys.get(400)));
+        Assert.assertFalse(list.contains(keys.get(200)));
+    }
+
+    @Test
+    public void removeHalfByElement_shouldCompactAndKeepOrder() {
+        IndexedArrayList<String> list = new IndexedArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            list.add("s" + i);
+            expected.add("s" + i);
+        }
+        for (int i = 0; i < 40_000; i += 2) {
+            Assert.assertTrue(list.remove("s" + i));
+        }
+        expected.removeIf(value -> Integer.parseInt(value.substring(1)) % 2 == 0);
+
+        Assert.assertEquals(expected.size(), list.size());
+        List<String> actual = new ArrayList<>();
+        list.forEach(actual::add);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.get(5_000), list.get(5_000));
+        Assert.assertEquals(5_000, list.indexOf(expected.get(5_000)));
+    }
+
+    private static final class CountingKey {
+        private final int value;
+        private int calls;
+
+        private CountingKey(int value) {
+            this.value = value;
+        }
+
+        private void resetCalls() {
+            calls = 0;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            calls++;
+            return obj instanceof CountingKey other && other.value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            calls++;
+            return Integer.hashCode(value);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.PrimitiveIterator;
+
+public class IntArrayListTestCase {
+
+    @Test
+    public void createDefaultConstructor_shouldCreatedEmptyList() {
+        IntArrayList list = new IntArrayList();
+        Assert.assertEquals(0, list.size());
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void createConstructorWithIncorrectCapacity() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+    @Test
+    public void addElementsToList() {
+        final int numberElements = 100;
+        IntArrayList list = new IntArrayList();
+        fill(list, numberElements);
+
+        Assert.assertEquals(numberElements, list.size());
+        for (int i = 0; i < numberElements; i++) {
+            Assert.assertEquals(i, list.get(i));
+        }
+    }
+
+    private void fill(IntArrayList list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    public void addElementsToListByIndex() {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+        list.add(0, 10);
+        list.add(4, 20);
+        list.add(2, 30);
+
+        Assert.assertEquals(new IntArrayList(new int[]{10, 1, 30, 2, 3, 20}), list);
+    }
+
+    @Test
+    public void addElementsToListByIncorrectIndex() {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(-1, 40));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(4, 40));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.get(3));
+    }
+
+    @Test
+    public void setElementToListByIndex() {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+
+        Assert.assertEquals(2, list.set(1, 5));
+        Assert.assertEquals(5, list.get(1));
+    }
+
+    @Test
+    public void removeElementByIndexAndByValue() {
+        IntArrayList list = new IntArrayList(new int[]{4, 5, 6, 5});
+
+        Assert.assertEquals(4, list.remove(0));
+        Assert.assertTrue(list.removeElement(5));
+        Assert.assertFalse(list.removeElement(42));
+        Assert.assertEquals(new IntArrayList(new int[]{6, 5}), list);
+    }
+
+    @Test
+    public void trimToSizeTest() {
+        IntArrayList list = new IntArrayList();
+        fill(list, 100);
+        Assert.assertNotEquals(list.getCapacity(), list.size());
+
+        list.trimToSize();
+        Assert.assertEquals(list.getCapacity(), list.size());
+    }
+
+    @Test
+    public void iteratorShouldReturnAllElementsInOrder() {
+        IntArrayList list = new IntArrayList();
+        fill(list, 10);
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int expected = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(expected++, iterator.nextInt());
+        }
+        Assert.assertEquals(10, expected);
+    }
+
+    @Test
+    public void equalsShouldIgnoreUnusedCapacity() {
+        IntArrayList list = new IntArrayList(100);
+        fill(list, 3);
+
+        Assert.assertEquals(new IntArrayList(new int[]{0, 1, 2}), list);
+        Assert.assertEquals(new IntArrayList(new int[]{0, 1, 2}).hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void clearList_ShouldBeEmpty() {
+        IntArrayList list = new IntArrayList();
+        fill(list, 100);
+
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void doubleListShouldFindNaN() {
+        DoubleArrayList list = new DoubleArrayList(new double[]{1.5, Double.NaN, -0.0});
+
+        Assert.assertEquals(1, list.indexOf(Double.NaN));
+        Assert.assertEquals(-1, list.indexOf(0.0));
+        Assert.assertTrue(list.removeElement(-0.0));
+        Assert.assertEquals(2, list.size());
+    }
+}
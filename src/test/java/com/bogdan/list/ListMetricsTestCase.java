@@ -0,0 +1,79 @@
+package com.bogdan.list;
+
+import com.bogdan.metrics.Metrics;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class ListMetricsTestCase {
+    private final ListMetrics metrics = ListMetrics.get();
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(Metrics.ENABLED);
+        metrics.reset();
+    }
+
+    @Test
+    public void resizes_shouldCountGrowthAndCopiedBytes() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(4);
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(1, metrics.getResizes());
+        long resizeBytes = metrics.getCopiedBytes();
+        Assert.assertTrue(resizeBytes == 4 * 4 || resizeBytes == 4 * 8);
+        int referenceSize = (int) (resizeBytes / 4);
+
+        list.add(0, -1);
+        list.remove(0);
+        list.trimToSize();
+
+        Assert.assertEquals(1, metrics.getResizes());
+        Assert.assertEquals(1, metrics.getTrims());
+        Assert.assertEquals((4 + 5 + 5 + 5) * referenceSize, metrics.getCopiedBytes());
+    }
+
+    @Test
+    public void clearWithShrinkPolicy_shouldCountTrim() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(100, CapacityPolicy.DEFAULT.withShrink(0.5, 8));
+        list.add(1);
+
+        list.clear();
+
+        Assert.assertEquals(8, list.getCapacity());
+        Assert.assertEquals(0, metrics.getResizes());
+        Assert.assertEquals(1, metrics.getTrims());
+    }
+
+    @Test
+    public void wastedCapacity_shouldFollowLiveLists() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(1_000);
+        list.add(1);
+        Assert.assertEquals(999, list.wastedCapacity());
+        long wasted = metrics.getWastedCapacity();
+        Assert.assertTrue(wasted >= 999);
+        Assert.assertTrue(metrics.getTrackedLists() > 0);
+
+        list.trimToSize();
+
+        // сумма по всем живым спискам JVM: списки других тестов могут быть собраны между чтениями,
+        // поэтому проверяется только то, что она уменьшилась не меньше чем на вклад этого списка
+        Assert.assertTrue(wasted - metrics.getWastedCapacity() >= 999);
+        Assert.assertEquals(0, list.wastedCapacity());
+    }
+
+    @Test
+    public void mbean_shouldBeRegistered() throws Exception {
+        ObjectName name = new ObjectName(Metrics.DOMAIN, "type", "ListMetrics");
+        new CustomArrayList<Integer>(2).add(1);
+
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        Assert.assertEquals(metrics.getResizes(), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Resizes"));
+    }
+}
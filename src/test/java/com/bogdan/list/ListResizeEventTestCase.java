@@ -0,0 +1,93 @@
+package com.bogdan.list;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class ListResizeEventTestCase {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resizeAndTrim_shouldBeRecordedWithCapacities() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ListResizeEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            CustomArrayList<Integer> list = new CustomArrayList<>(4);
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+            list.trimToSize();
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assert.assertEquals(2, events.size());
+        RecordedEvent growth = events.get(0);
+        Assert.assertFalse(growth.getBoolean("trim"));
+        Assert.assertEquals(4, growth.getInt("oldCapacity"));
+        Assert.assertEquals(6, growth.getInt("newCapacity"));
+        Assert.assertEquals(4, growth.getInt("size"));
+        RecordedEvent trim = events.get(1);
+        Assert.assertTrue(trim.getBoolean("trim"));
+        Assert.assertEquals(6, trim.getInt("oldCapacity"));
+        Assert.assertEquals(5, trim.getInt("newCapacity"));
+    }
+
+    @Test
+    public void clearWithShrinkPolicy_shouldBeRecordedAsTrim() throws IOException {
+        List<RecordedEvent> events;
+        CustomArrayList<Integer> list = new CustomArrayList<>(100, CapacityPolicy.DEFAULT.withShrink(0.5, 8));
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        try (Recording recording = new Recording()) {
+            recording.enable(ListResizeEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            list.clear();
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assert.assertEquals(1, events.size());
+        RecordedEvent trim = events.get(0);
+        Assert.assertTrue(trim.getBoolean("trim"));
+        Assert.assertEquals(100, trim.getInt("oldCapacity"));
+        Assert.assertEquals(8, trim.getInt("newCapacity"));
+        Assert.assertEquals(0, trim.getInt("size"));
+    }
+
+    @Test
+    public void shortResizes_shouldStayBelowDefaultThreshold() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ListResizeEvent.NAME);
+            recording.start();
+            CustomArrayList<Integer> list = new CustomArrayList<>(1);
+            list.add(1);
+            list.add(2);
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = folder.newFile("recording.jfr").toPath();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ListResizeEvent.NAME))
+                .toList();
+    }
+}
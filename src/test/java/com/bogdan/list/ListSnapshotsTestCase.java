@@ -0,0 +1,103 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+public class ListSnapshotsTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndReadIntList_shouldWriteOnlyValues() throws IOException {
+        IntArrayList list = new IntArrayList(1_000_000);
+        Random random = new Random(1);
+        for (int i = 0; i < 300_000; i++) {
+            list.add(random.nextInt());
+        }
+        Path path = folder.getRoot().toPath().resolve("ints.snap");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSnapshots.write(list, channel);
+        }
+
+        Assert.assertEquals(ListSnapshots.HEADER_SIZE + 300_000L * Integer.BYTES, Files.size(path));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            IntArrayList restored = ListSnapshots.readIntList(channel);
+            Assert.assertEquals(list, restored);
+            Assert.assertEquals(300_000, restored.getCapacity());
+        }
+    }
+
+    @Test
+    public void writeAndReadCompressed_shouldRestoreValues() throws IOException {
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 0; i < 400_000; i++) {
+            longs.add(i % 1000);
+            doubles.add(i / 8.0);
+        }
+        BlockCompressor compressor = BlockCompressor.deflate();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSnapshots.write(longs, Channels.newChannel(out), compressor);
+        ListSnapshots.write(doubles, Channels.newChannel(out), compressor);
+
+        Assert.assertTrue(out.size() < 400_000L * Long.BYTES);
+        var in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+        Assert.assertEquals(longs, ListSnapshots.readLongList(in, compressor));
+        Assert.assertEquals(doubles, ListSnapshots.readDoubleList(in, compressor));
+    }
+
+    @Test
+    public void writeAndReadObjectList_shouldUseRecordCodec() throws IOException {
+        CustomArrayList<Long> list = new CustomArrayList<>();
+        for (long i = 0; i < 200_000; i++) {
+            list.add(i * 31);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSnapshots.write(list, RecordCodec.ofLong(), Channels.newChannel(out));
+
+        CustomArrayList<Long> restored = ListSnapshots.readList(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), RecordCodec.ofLong());
+        Assert.assertEquals(list, restored);
+        Assert.assertEquals(200_000, restored.getCapacity());
+    }
+
+    @Test
+    public void writeAndReadEmptyList() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSnapshots.write(new IntArrayList(), Channels.newChannel(out), BlockCompressor.deflate());
+
+        Assert.assertEquals(ListSnapshots.HEADER_SIZE, out.size());
+        IntArrayList restored = ListSnapshots.readIntList(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), BlockCompressor.deflate());
+        Assert.assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    public void readMismatchedSnapshot_shouldThrowException() throws IOException {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSnapshots.write(list, Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+
+        Assert.assertThrows(IOException.class, () -> ListSnapshots.readLongList(
+                Channels.newChannel(new ByteArrayInputStream(bytes))));
+        Assert.assertThrows(IOException.class, () -> ListSnapshots.readIntList(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), BlockCompressor.deflate()));
+        Assert.assertThrows(EOFException.class, () -> ListSnapshots.readIntList(
+                Channels.newChannel(new ByteArrayInputStream(bytes, 0, bytes.length - 1))));
+    }
+}
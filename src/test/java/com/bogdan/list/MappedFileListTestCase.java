@@ -0,0 +1,125 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class MappedFileListTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void reopenList_shouldRestoreElements() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("list.bin");
+        try (MappedFileList<Long> list = MappedFileList.open(path, RecordCodec.ofLong(), 64)) {
+            for (long i = 0; i < 100; i++) {
+                list.add(i * i);
+            }
+            list.remove(0);
+        }
+
+        try (MappedFileList<Long> list = MappedFileList.open(path, RecordCodec.ofLong(), 1024)) {
+            Assert.assertEquals(99, list.size());
+            for (int i = 0; i < 99; i++) {
+                Assert.assertEquals(Long.valueOf((i + 1L) * (i + 1L)), list.get(i));
+            }
+            list.add(-1L);
+        }
+
+        try (MappedFileList<Long> list = MappedFileList.open(path, RecordCodec.ofLong())) {
+            Assert.assertEquals(100, list.size());
+            Assert.assertEquals(Long.valueOf(-1), list.get(99));
+        }
+    }
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() throws IOException {
+        Random random = new Random(1);
+        List<Integer> expected = new ArrayList<>();
+        Path path = folder.getRoot().toPath().resolve("random.bin");
+        try (MappedFileList<Integer> list = MappedFileList.open(path, RecordCodec.ofInt(), 16)) {
+            for (int step = 0; step < 5_000; step++) {
+                int value = random.nextInt(100);
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        list.add(value);
+                        expected.add(value);
+                    }
+                    case 1 -> {
+                        int position = random.nextInt(expected.size() + 1);
+                        list.add(position, value);
+                        expected.add(position, value);
+                    }
+                    case 2 -> {
+                        if (!expected.isEmpty()) {
+                            int position = random.nextInt(expected.size());
+                            Assert.assertEquals(expected.remove(position), list.remove(position));
+                        }
+                    }
+                    default -> {
+                        if (!expected.isEmpty()) {
+                            int position = random.nextInt(expected.size());
+                            Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                        }
+                    }
+                }
+            }
+        }
+
+        try (MappedFileList<Integer> list = MappedFileList.open(path, RecordCodec.ofInt(), 16)) {
+            Assert.assertEquals(expected, list.stream().toList());
+        }
+    }
+
+    @Test
+    public void trimToSize_shouldTruncateFile() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("trim.bin");
+        try (MappedFileList<Integer> list = MappedFileList.open(path, RecordCodec.ofInt(), 64)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            list.removeRange(20, 100);
+            list.trimToSize();
+
+            Assert.assertEquals(32, list.getCapacity());
+            Assert.assertEquals(MappedFileList.HEADER_SIZE + 128, Files.size(path));
+        }
+    }
+
+    @Test
+    public void openWithDifferentRecordSize_shouldThrowException() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("ints.bin");
+        MappedFileList.open(path, RecordCodec.ofInt()).close();
+
+        Assert.assertThrows(IOException.class, () -> MappedFileList.open(path, RecordCodec.ofLong()));
+    }
+
+    @Test
+    public void openForeignFile_shouldThrowException() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("foreign.bin");
+        Files.write(path, new byte[MappedFileList.HEADER_SIZE]);
+
+        Assert.assertThrows(IOException.class, () -> MappedFileList.open(path, RecordCodec.ofInt()));
+    }
+
+    @Test
+    public void useAfterClose_shouldThrowException() throws IOException {
+        MappedFileList<Integer> list = MappedFileList.open(folder.getRoot().toPath().resolve("closed.bin"),
+                RecordCodec.ofInt());
+        list.add(1);
+        list.close();
+        list.close();
+
+        Assert.assertThrows(IllegalStateException.class, () -> list.get(0));
+        Assert.assertThrows(IllegalStateException.class, list::force);
+    }
+}
@@ -0,0 +1,194 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class OffHeapListTestCase {
+
+    @Test
+    public void addElementsToList_shouldAllocateChunksOneByOne() {
+        try (OffHeapList<Long> list = new OffHeapList<>(RecordCodec.ofLong(), 32)) {
+            for (long i = 0; i < 10; i++) {
+                list.add(i * 1_000_000_007L);
+            }
+
+            Assert.assertEquals(10, list.size());
+            Assert.assertEquals(12, list.getCapacity());
+            Assert.assertEquals(96, list.getAllocatedBytes());
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals(Long.valueOf(i * 1_000_000_007L), list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(1);
+        List<Integer> expected = new ArrayList<>();
+        try (OffHeapList<Integer> list = new OffHeapList<>(RecordCodec.ofInt(), 16)) {
+            for (int step = 0; step < 20_000; step++) {
+                int value = random.nextInt(100);
+                switch (random.nextInt(5)) {
+                    case 0 -> {
+                        list.add(value);
+                        expected.add(value);
+                    }
+                    case 1 -> {
+                        int position = random.nextInt(expected.size() + 1);
+                        list.add(position, value);
+                        expected.add(position, value);
+                    }
+                    case 2 -> {
+                        if (!expected.isEmpty()) {
+                            int position = random.nextInt(expected.size());
+                            Assert.assertEquals(expected.remove(position), list.remove(position));
+                        }
+                    }
+                    case 3 -> Assert.assertEquals(expected.remove(Integer.valueOf(value)),
+                            list.remove(Integer.valueOf(value)));
+                    default -> {
+                        if (!expected.isEmpty()) {
+                            int position = random.nextInt(expected.size());
+                            Assert.assertEquals(expected.set(position, value), list.set(position, value));
+                        }
+                    }
+                }
+            }
+
+            Assert.assertEquals(expected.size(), list.size());
+            Assert.assertEquals(expected, list.stream().toList());
+        }
+    }
+
+    @Test
+    public void shiftInsideLargeChunk_shouldCopyInBoundedSteps() {
+        final int chunkBytes = AbstractRecordList.SCRATCH_BYTES * 4;
+        final int count = chunkBytes / Long.BYTES * 2 + 3;
+        List<Long> expected = new ArrayList<>();
+        try (OffHeapList<Long> list = new OffHeapList<>(RecordCodec.ofLong(), chunkBytes)) {
+            for (long i = 0; i < count; i++) {
+                list.add(i);
+                expected.add(i);
+            }
+
+            list.add(1, -1L);
+            expected.add(1, -1L);
+            list.add(count / 2, -2L);
+            expected.add(count / 2, -2L);
+            Assert.assertEquals(expected, list.stream().toList());
+
+            Assert.assertEquals(expected.remove(0), list.remove(0));
+            Assert.assertEquals(expected.remove(count / 3), list.remove(count / 3));
+            Assert.assertEquals(expected, list.stream().toList());
+        }
+    }
+
+    @Test
+    public void removeRangeAndRemoveIf_shouldMatchArrayList() {
+        Random random = new Random(2);
+        for (int round = 0; round < 100; round++) {
+            List<Integer> expected = new ArrayList<>();
+            try (OffHeapList<Integer> list = new OffHeapList<>(RecordCodec.ofInt(), 32)) {
+                for (int i = 0; i < 77; i++) {
+                    list.add(i);
+                    expected.add(i);
+                }
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(expected.size() - from + 1);
+                list.removeRange(from, to);
+                expected.subList(from, to).clear();
+                Assert.assertEquals(expected, list.stream().toList());
+
+                int divisor = 2 + random.nextInt(4);
+                Assert.assertEquals(expected.removeIf(value -> value % divisor == 0),
+                        list.removeIf(value -> value % divisor == 0));
+                Assert.assertEquals(expected, list.stream().toList());
+            }
+        }
+    }
+
+    @Test
+    public void removeIfThrowing_shouldKeepUncheckedRecords() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(RecordCodec.ofInt(), 16)) {
+            for (int i = 0; i < 20; i++) {
+                list.add(i);
+            }
+            Assert.assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+                if (value == 10) {
+                    throw new IllegalStateException();
+                }
+                return value % 2 == 0;
+            }));
+
+            Assert.assertEquals(List.of(1, 3, 5, 7, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19),
+                    list.stream().toList());
+        }
+    }
+
+    @Test
+    public void trimToSize_shouldReleaseEmptyChunks() {
+        try (OffHeapList<Double> list = new OffHeapList<>(RecordCodec.ofDouble(), 64)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(i / 2.0);
+            }
+            list.removeRange(10, 100);
+            list.trimToSize();
+
+            Assert.assertEquals(16, list.getCapacity());
+            Assert.assertEquals(Double.valueOf(4.5), list.get(9));
+        }
+    }
+
+    @Test
+    public void useAfterClose_shouldThrowException() {
+        OffHeapList<Integer> list = new OffHeapList<>(RecordCodec.ofInt());
+        list.add(1);
+        list.close();
+        list.close();
+
+        Assert.assertEquals(0, list.getAllocatedBytes());
+        Assert.assertThrows(IllegalStateException.class, () -> list.add(2));
+        Assert.assertThrows(IllegalStateException.class, () -> list.get(0));
+        Assert.assertThrows(IllegalStateException.class, list::iterator);
+    }
+
+    @Test
+    public void getWithIncorrectIndex() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(RecordCodec.ofInt())) {
+            list.add(1);
+            Assert.assertThrows(IllegalArgumentException.class, () -> list.get(1));
+            Assert.assertThrows(IllegalArgumentException.class, () -> list.add(3, 1));
+        }
+    }
+
+    @Test
+    public void closeAndTrim_shouldFreeDirectMemoryWithoutGc() {
+        final int chunkBytes = 1 << 20;
+        long before = directMemoryUsed();
+        OffHeapList<Long> list = new OffHeapList<>(RecordCodec.ofLong(), chunkBytes);
+        for (long i = 0; i < 8L * chunkBytes / Long.BYTES; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(8L * chunkBytes, directMemoryUsed() - before);
+
+        list.removeRange(chunkBytes / Long.BYTES, list.size());
+        list.trimToSize();
+        Assert.assertEquals(chunkBytes, directMemoryUsed() - before);
+
+        list.close();
+        Assert.assertEquals(0, directMemoryUsed() - before);
+    }
+
+    private static long directMemoryUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
@@ -0,0 +1,141 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class PersistentVectorTestCase {
+
+    @Test
+    public void addElements_shouldKeepOldVersions() {
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            if (i % 1000 == 0) {
+                versions.add(vector);
+            }
+            vector = vector.add(i);
+        }
+
+        Assert.assertEquals(40_000, vector.size());
+        for (int i = 0; i < 40_000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+        for (int v = 0; v < versions.size(); v++) {
+            PersistentVector<Integer> version = versions.get(v);
+            Assert.assertEquals(v * 1000, version.size());
+            Assert.assertEquals(version.size(), version.stream().count());
+        }
+    }
+
+    @Test
+    public void removeLast_shouldShrinkTree() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.add(i);
+        }
+        PersistentVector<Integer> full = vector;
+        for (int i = 1099; i >= 0; i--) {
+            Assert.assertEquals(Integer.valueOf(i), vector.get(i));
+            vector = vector.removeLast();
+            Assert.assertEquals(i, vector.size());
+        }
+
+        Assert.assertTrue(vector.isEmpty());
+        Assert.assertEquals(1100, full.size());
+        Assert.assertEquals(Integer.valueOf(1099), full.get(1099));
+        Assert.assertThrows(IllegalStateException.class, vector::removeLast);
+    }
+
+    @Test
+    public void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(1);
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            PersistentVector<Integer> previous = vector;
+            List<Integer> previousExpected = new ArrayList<>(expected);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    vector = vector.add(value);
+                    expected.add(value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(10) == 0
+                                ? random.nextInt(expected.size())
+                                : expected.size() - 1;
+                        vector = vector.remove(position);
+                        expected.remove(position);
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        vector = vector.set(position, value);
+                        expected.set(position, value);
+                    }
+                }
+            }
+            if (step % 500 == 0) {
+                Assert.assertEquals(expected, vector.stream().toList());
+                Assert.assertEquals(previousExpected, previous.stream().toList());
+            }
+        }
+        Assert.assertEquals(expected, vector.stream().toList());
+    }
+
+    @Test
+    public void removeFromMiddle_shouldShiftElements() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 100; i++) {
+            vector = vector.add(i);
+        }
+        PersistentVector<Integer> removed = vector.remove(40);
+
+        Assert.assertEquals(99, removed.size());
+        Assert.assertEquals(Integer.valueOf(39), removed.get(39));
+        Assert.assertEquals(Integer.valueOf(41), removed.get(40));
+        Assert.assertEquals(Integer.valueOf(40), vector.get(40));
+    }
+
+    @Test
+    public void convertCustomArrayList_shouldRoundTrip() {
+        for (int size : new int[]{0, 1, 32, 33, 1024, 1056, 33_000}) {
+            CustomArrayList<Integer> list = new CustomArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            PersistentVector<Integer> vector = list.toPersistentVector();
+            if (size > 0) {
+                list.set(0, -1);
+            }
+
+            Assert.assertEquals(size, vector.size());
+            if (size > 0) {
+                Assert.assertEquals(Integer.valueOf(0), vector.get(0));
+                Assert.assertEquals(Integer.valueOf(size - 1), vector.get(size - 1));
+                Assert.assertEquals(Integer.valueOf(size), vector.add(size).get(size));
+            }
+            CustomArrayList<Integer> copy = vector.toCustomArrayList();
+            Assert.assertEquals(size, copy.size());
+            Assert.assertEquals(size, copy.getCapacity());
+            Assert.assertEquals(vector, PersistentVector.copyOf(copy));
+        }
+    }
+
+    @Test
+    public void builder_shouldStartNewVectorAfterBuild() {
+        PersistentVector.Builder<String> builder = PersistentVector.builder();
+        PersistentVector<String> first = builder.add("a").add("b").build();
+        PersistentVector<String> second = builder.add("c").build();
+
+        Assert.assertEquals("[a, b]", first.toString());
+        Assert.assertEquals("[c]", second.toString());
+        Assert.assertThrows(IllegalArgumentException.class, () -> first.get(2));
+    }
+}
@@ -0,0 +1,124 @@
+package com.bogdan.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class PrimitiveKernelsTestCase {
+    private static final int SIZE = 1_000;
+
+    private final PrimitiveKernels scalar = new ScalarKernels();
+    private final PrimitiveKernels kernels = PrimitiveKernels.INSTANCE;
+    private final Random random = new Random(3);
+
+    @Test
+    public void instance_shouldUseVectorKernelsWhenModuleIsAdded() {
+        Assert.assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        Assert.assertEquals("VectorKernels", kernels.getClass().getSimpleName());
+    }
+
+    @Test
+    public void intKernels_shouldMatchScalarOnEveryRange() {
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(50) - 25;
+        }
+        values[SIZE - 3] = Integer.MAX_VALUE;
+        values[SIZE - 2] = Integer.MAX_VALUE;
+        values[7] = Integer.MIN_VALUE;
+        for (int round = 0; round < 500; round++) {
+            int from = random.nextInt(SIZE);
+            int to = from + random.nextInt(SIZE - from) + 1;
+            int value = random.nextInt(60) - 30;
+            Assert.assertEquals(scalar.indexOf(values, from, to, value), kernels.indexOf(values, from, to, value));
+            Assert.assertEquals(scalar.count(values, from, to, value), kernels.count(values, from, to, value));
+            Assert.assertEquals(scalar.min(values, from, to), kernels.min(values, from, to));
+            Assert.assertEquals(scalar.max(values, from, to), kernels.max(values, from, to));
+            Assert.assertEquals(scalar.sum(values, from, to), kernels.sum(values, from, to));
+        }
+    }
+
+    @Test
+    public void longKernels_shouldMatchScalarOnEveryRange() {
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(3) == 0 ? random.nextLong() : random.nextInt(20);
+        }
+        for (int round = 0; round < 500; round++) {
+            int from = random.nextInt(SIZE);
+            int to = from + random.nextInt(SIZE - from) + 1;
+            long value = random.nextInt(3) == 0 ? values[random.nextInt(SIZE)] : random.nextInt(25);
+            Assert.assertEquals(scalar.indexOf(values, from, to, value), kernels.indexOf(values, from, to, value));
+            Assert.assertEquals(scalar.count(values, from, to, value), kernels.count(values, from, to, value));
+            Assert.assertEquals(scalar.min(values, from, to), kernels.min(values, from, to));
+            Assert.assertEquals(scalar.max(values, from, to), kernels.max(values, from, to));
+            Assert.assertEquals(scalar.sum(values, from, to), kernels.sum(values, from, to));
+        }
+    }
+
+    @Test
+    public void doubleKernels_shouldMatchScalarOnEveryRange() {
+        double[] special = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1.5};
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(10) == 0 ? special[random.nextInt(special.length)] : random.nextInt(20) / 4.0;
+        }
+        for (int round = 0; round < 500; round++) {
+            int from = random.nextInt(SIZE);
+            int to = from + random.nextInt(SIZE - from) + 1;
+            double value = special[random.nextInt(special.length)];
+            Assert.assertEquals(scalar.indexOf(values, from, to, value), kernels.indexOf(values, from, to, value));
+            Assert.assertEquals(scalar.count(values, from, to, value), kernels.count(values, from, to, value));
+            Assert.assertEquals(Double.doubleToLongBits(scalar.min(values, from, to)),
+                    Double.doubleToLongBits(kernels.min(values, from, to)));
+            Assert.assertEquals(Double.doubleToLongBits(scalar.max(values, from, to)),
+                    Double.doubleToLongBits(kernels.max(values, from, to)));
+        }
+    }
+
+    @Test
+    public void doubleSum_shouldMatchScalarForExactValues() {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(1000) / 8.0;
+        }
+
+        Assert.assertEquals(scalar.sum(values, 0, SIZE), kernels.sum(values, 0, SIZE), 0.0);
+        Assert.assertEquals(scalar.sum(values, 3, SIZE - 5), kernels.sum(values, 3, SIZE - 5), 0.0);
+    }
+
+    @Test
+    public void doubleIndexOf_shouldFindAnyNaNAndDistinguishZeros() {
+        double[] values = new double[SIZE];
+        values[100] = -0.0;
+        values[0] = 0.0;
+        values[500] = Double.longBitsToDouble(0x7ff0_0000_0000_0001L);
+
+        Assert.assertEquals(500, kernels.indexOf(values, 0, SIZE, Double.NaN));
+        Assert.assertEquals(100, kernels.indexOf(values, 0, SIZE, -0.0));
+        Assert.assertEquals(1, kernels.count(values, 0, SIZE, -0.0));
+        Assert.assertEquals(SIZE - 2, kernels.count(values, 0, SIZE, 0.0));
+    }
+
+    @Test
+    public void listAggregates_shouldUseWholeList() {
+        IntArrayList list = new IntArrayList(new int[]{4, -2, 9, 4, Integer.MAX_VALUE, Integer.MAX_VALUE});
+
+        Assert.assertTrue(list.contains(9));
+        Assert.assertFalse(list.contains(5));
+        Assert.assertEquals(2, list.count(4));
+        Assert.assertEquals(-2, list.min());
+        Assert.assertEquals(Integer.MAX_VALUE, list.max());
+        Assert.assertEquals(15 + 2L * Integer.MAX_VALUE, list.sum());
+    }
+
+    @Test
+    public void listMinAndMax_shouldThrowOnEmptyList() {
+        Assert.assertThrows(NoSuchElementException.class, () -> new IntArrayList().min());
+        Assert.assertThrows(NoSuchElementException.class, () -> new LongArrayList().max());
+        Assert.assertThrows(NoSuchElementException.class, () -> new DoubleArrayList().min());
+        Assert.assertEquals(0.0, new DoubleArrayList().sum(), 0.0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.RecordCodec;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class ExternalMergeSortTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sortWithManyRuns_shouldMatchInMemorySort() throws IOException {
+        Random random = new Random(5);
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            values.add(random.nextLong());
+        }
+        Path directory = folder.getRoot().toPath();
+        ExternalMergeSorter<Long> sorter = new ExternalMergeSorter<>(RecordCodec.ofLong(), 1000, directory);
+
+        CustomArrayList<Long> sorted = sorter.sort(values, Comparator.naturalOrder());
+
+        values.sort(Comparator.naturalOrder());
+        Assert.assertEquals(new CustomArrayList<>(values), sorted);
+        Assert.assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    public void sortWithSeveralMergePasses_shouldBeStable() throws IOException {
+        // ключ в старших 32 битах, порядковый номер - в младших; сравниваются только ключи
+        Random random = new Random(9);
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(((long) random.nextInt(50) << 32) | i);
+        }
+        Comparator<Long> byKey = Comparator.comparingLong(value -> value >>> 32);
+        Path directory = folder.getRoot().toPath();
+        ExternalMergeSorter<Long> sorter = new ExternalMergeSorter<>(RecordCodec.ofLong(), 8, directory);
+
+        List<Long> sorted = new ArrayList<>();
+        sorter.sort(values, byKey, sorted::add);
+
+        values.sort(byKey);
+        Assert.assertEquals(values, sorted);
+        Assert.assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    public void sortSmallInput_shouldNotCreateFiles() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        ExternalMergeSorter<Integer> sorter = new ExternalMergeSorter<>(RecordCodec.ofInt(), 10, directory);
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(1, 2, 3)),
+                sorter.sort(List.of(3, 1, 2), Comparator.naturalOrder()));
+        Assert.assertTrue(sorter.sort(List.of(), Comparator.naturalOrder()).isEmpty());
+    }
+
+    @Test
+    public void failingCodec_shouldDeleteRunFiles() throws IOException {
+        RecordCodec<Integer> failing = new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                throw new IllegalStateException("read failed");
+            }
+        };
+        Path directory = folder.getRoot().toPath();
+        ExternalMergeSorter<Integer> sorter = new ExternalMergeSorter<>(failing, 4, directory);
+        List<Integer> values = List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+
+        Assert.assertThrows(IllegalStateException.class, () -> sorter.sort(values, Comparator.naturalOrder()));
+        Assert.assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    public void createWithIncorrectMemoryLimit() {
+        Path directory = folder.getRoot().toPath();
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSorter<>(RecordCodec.ofInt(), 1, directory));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
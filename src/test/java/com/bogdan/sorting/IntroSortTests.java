@@ -0,0 +1,116 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class IntroSortTests {
+    private static final int LARGE_SIZE = 300_000;
+
+    private Sorter sorter;
+
+    @Before
+    public void init() {
+        this.sorter = new IntroSorter();
+    }
+
+    @Test
+    public void introSortIntegerTest() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(18, -2, 99, -24, 0, 3));
+        sorter.sort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(-24, -2, 0, 3, 18, 99)), list);
+    }
+
+    @Test
+    public void introSortStringReverseOrderTest() {
+        SimpleList<String> list = new CustomArrayList<>(List.of("banana", "apple", "melon", "garlic", "tomato"));
+        sorter.sort(list, Comparator.reverseOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(List.of("tomato", "melon", "garlic", "banana", "apple")), list);
+    }
+
+    @Test
+    public void introSortEmptyAndSingleElementList() {
+        SimpleList<Integer> empty = new CustomArrayList<>();
+        sorter.sort(empty, Comparator.naturalOrder());
+        Assert.assertTrue(empty.isEmpty());
+
+        SimpleList<Integer> single = new CustomArrayList<>(List.of(7));
+        sorter.sort(single, Comparator.naturalOrder());
+        Assert.assertEquals(Integer.valueOf(7), single.get(0));
+    }
+
+    @Test
+    public void introSortLargeSortedInput_shouldNotOverflowStack() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            source.add(i);
+        }
+        assertSortedLikeJdk(source);
+    }
+
+    @Test
+    public void introSortLargeReversedInput_shouldNotOverflowStack() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = LARGE_SIZE; i > 0; i--) {
+            source.add(i);
+        }
+        assertSortedLikeJdk(source);
+    }
+
+    @Test
+    public void introSortManyDuplicates() {
+        Random random = new Random(1);
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            source.add(random.nextInt(5));
+        }
+        assertSortedLikeJdk(source);
+    }
+
+    @Test
+    public void introSortRandomInputOfDifferentSizes() {
+        Random random = new Random(2);
+        for (int size = 0; size < 1000; size += 37) {
+            List<Integer> source = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                source.add(random.nextInt());
+            }
+            assertSortedLikeJdk(source);
+        }
+    }
+
+    @Test
+    public void heapSortFallback_shouldSortWhenDepthLimitExceeded() {
+        Random random = new Random(3);
+        Integer[] elements = new Integer[10_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(1000);
+        }
+        Integer[] expected = elements.clone();
+        Arrays.sort(expected);
+
+        IntroSorter.sort(elements, 0, elements.length, 0, Comparator.<Integer>naturalOrder());
+
+        Assert.assertArrayEquals(expected, elements);
+    }
+
+    private void assertSortedLikeJdk(List<Integer> source) {
+        SimpleList<Integer> list = new CustomArrayList<>(source);
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(Comparator.naturalOrder());
+
+        sorter.sort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(expected), list);
+    }
+}
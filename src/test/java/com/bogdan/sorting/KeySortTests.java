@@ -0,0 +1,63 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.ChunkedArrayList;
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeySortTests {
+    private static final int SIZE = 50_000;
+
+    @Test
+    public void sortByKey_shouldExtractEveryKeyOnce() {
+        for (Sorter sorter : new Sorter[]{new QuickSorter(), new IntroSorter(), new TimSorter(),
+                new ParallelQuickSorter()}) {
+            List<String> values = randomValues(new Random(1));
+            SimpleList<String> list = new CustomArrayList<>(values);
+            AtomicInteger extractions = new AtomicInteger();
+
+            sorter.sortByKey(list, value -> {
+                extractions.incrementAndGet();
+                return key(value);
+            }, Comparator.naturalOrder());
+
+            Assert.assertEquals(SIZE, extractions.get());
+            for (int i = 1; i < SIZE; i++) {
+                Assert.assertTrue(key(list.get(i - 1)) <= key(list.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void sortByKeyWithTimSorter_shouldBeStable() {
+        List<String> values = randomValues(new Random(2));
+        SimpleList<String> list = new ChunkedArrayList<>(4);
+        list.addAll(values);
+        values.sort(Comparator.comparing(KeySortTests::key, Comparator.reverseOrder()));
+
+        new TimSorter().sortByKey(list, KeySortTests::key, Comparator.reverseOrder());
+
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(values.get(i), list.get(i));
+        }
+    }
+
+    private static List<String> randomValues(Random random) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            values.add("item-" + i + ":" + random.nextInt(1000));
+        }
+        return values;
+    }
+
+    private static Integer key(String value) {
+        return Integer.parseInt(value.substring(value.indexOf(':') + 1));
+    }
+}
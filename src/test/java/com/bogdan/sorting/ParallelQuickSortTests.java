@@ -0,0 +1,77 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelQuickSortTests {
+    private static final int SIZE = 200_000;
+
+    private ForkJoinPool pool;
+    private Sorter sorter;
+
+    @Before
+    public void init() {
+        this.pool = new ForkJoinPool(4);
+        this.sorter = new ParallelQuickSorter(pool, 1000);
+    }
+
+    @After
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void parallelSortSmallList_shouldSortSequentially() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(18, -2, 99, -24, 0, 3));
+        sorter.sort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(-24, -2, 0, 3, 18, 99)), list);
+    }
+
+    @Test
+    public void parallelSortRandomInput() {
+        Random random = new Random(1);
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            source.add(random.nextInt());
+        }
+        assertSortedLikeJdk(source, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void parallelSortSortedAndDuplicatedInput() {
+        List<Integer> sorted = new ArrayList<>();
+        List<Integer> duplicates = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            sorted.add(i);
+            duplicates.add(i % 3);
+        }
+        assertSortedLikeJdk(sorted, Comparator.reverseOrder());
+        assertSortedLikeJdk(duplicates, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void createWithIncorrectThreshold() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSorter(pool, 0));
+    }
+
+    private void assertSortedLikeJdk(List<Integer> source, Comparator<Integer> comparator) {
+        SimpleList<Integer> list = new CustomArrayList<>(source);
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(comparator);
+
+        sorter.sort(list, comparator);
+
+        Assert.assertEquals(new CustomArrayList<>(expected), list);
+    }
+}
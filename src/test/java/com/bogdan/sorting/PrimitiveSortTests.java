@@ -0,0 +1,109 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.DoubleArrayList;
+import com.bogdan.list.IntArrayList;
+import com.bogdan.list.LongArrayList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PrimitiveSortTests {
+    private static final int SIZE = 100_000;
+
+    private PrimitiveSorter sorter;
+    private Random random;
+
+    @Before
+    public void init() {
+        this.sorter = new PrimitiveSorter();
+        this.random = new Random(1);
+    }
+
+    @Test
+    public void sortIntList() {
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt();
+        }
+        IntArrayList list = new IntArrayList(values);
+        Arrays.sort(values);
+
+        sorter.sort(list);
+
+        Assert.assertArrayEquals(values, list.toArray());
+    }
+
+    @Test
+    public void sortIntListSortedAndDuplicated() {
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i % 2 == 0 ? SIZE - i : 7;
+        }
+        IntArrayList list = new IntArrayList(values);
+        Arrays.sort(values);
+
+        sorter.sort(list);
+
+        Assert.assertArrayEquals(values, list.toArray());
+    }
+
+    @Test
+    public void sortLongList() {
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextLong();
+        }
+        LongArrayList list = new LongArrayList(values);
+        Arrays.sort(values);
+
+        sorter.sort(list);
+
+        Assert.assertArrayEquals(values, list.toArray());
+    }
+
+    @Test
+    public void sortDoubleList_shouldOrderLikeDoubleCompare() {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextGaussian();
+        }
+        values[10] = Double.NaN;
+        values[20] = -0.0;
+        values[30] = 0.0;
+        values[40] = Double.NEGATIVE_INFINITY;
+        DoubleArrayList list = new DoubleArrayList(values);
+        Arrays.sort(values);
+
+        sorter.sort(list);
+
+        Assert.assertArrayEquals(values, list.toArray(), 0.0);
+        Assert.assertTrue(Double.isNaN(list.get(SIZE - 1)));
+    }
+
+    @Test
+    public void sortShortLists_shouldSortEveryLengthUpToNetworkSize() {
+        for (int length = 0; length <= PrimitiveSorter.NETWORK_SIZE + 1; length++) {
+            for (int round = 0; round < 200; round++) {
+                int[] ints = new int[length];
+                long[] longs = new long[length];
+                for (int i = 0; i < length; i++) {
+                    ints[i] = random.nextInt(5) == 0 ? Integer.MAX_VALUE : random.nextInt(10) - 5;
+                    longs[i] = random.nextInt(5) == 0 ? Long.MIN_VALUE : random.nextLong();
+                }
+                IntArrayList intList = new IntArrayList(ints);
+                LongArrayList longList = new LongArrayList(longs);
+                Arrays.sort(ints);
+                Arrays.sort(longs);
+
+                sorter.sort(intList);
+                sorter.sort(longList);
+
+                Assert.assertArrayEquals(ints, intList.toArray());
+                Assert.assertArrayEquals(longs, longList.toArray());
+            }
+        }
+    }
+}
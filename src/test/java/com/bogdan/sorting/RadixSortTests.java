@@ -0,0 +1,130 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CircularArrayList;
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.DoubleArrayList;
+import com.bogdan.list.IntArrayList;
+import com.bogdan.list.LongArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class RadixSortTests {
+    private static final int SIZE = 100_000;
+
+    private RadixSorter sorter;
+    private Random random;
+
+    @Before
+    public void init() {
+        this.sorter = new RadixSorter();
+        this.random = new Random(1);
+    }
+
+    @Test
+    public void sortByIntKey_shouldBeStable() {
+        List<int[]> values = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            values.add(new int[]{random.nextInt(2000) - 1000, i});
+        }
+        SimpleList<int[]> list = new CustomArrayList<>(values);
+        values.sort(Comparator.comparingInt(value -> value[0]));
+
+        sorter.sortByInt(list, value -> value[0]);
+
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertSame(values.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void sortByLongKey_shouldMatchComparisonSort() {
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            values.add(random.nextLong());
+        }
+        values.add(Long.MIN_VALUE);
+        values.add(Long.MAX_VALUE);
+        SimpleList<Long> list = new CustomArrayList<>(values);
+        values.sort(Comparator.naturalOrder());
+
+        sorter.sortByLong(list, Long::longValue);
+
+        Assert.assertEquals(new CustomArrayList<>(values), list);
+    }
+
+    @Test
+    public void sortTimestamps_shouldSkipCommonBytes() {
+        long start = 1_700_000_000_000L;
+        CircularArrayList<Long> list = new CircularArrayList<>();
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long timestamp = start + random.nextInt(86_400_000);
+            list.addFirst(timestamp);
+            values.add(0, timestamp);
+        }
+        values.sort(Comparator.naturalOrder());
+
+        sorter.sortByLong(list, Long::longValue);
+
+        for (int i = 0; i < values.size(); i++) {
+            Assert.assertEquals(values.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void sortPrimitiveLists() {
+        int[] ints = new int[SIZE];
+        long[] longs = new long[SIZE];
+        double[] doubles = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextGaussian() * 1e6;
+        }
+        doubles[0] = -0.0;
+        doubles[1] = 0.0;
+        doubles[2] = Double.NaN;
+        doubles[3] = Double.NEGATIVE_INFINITY;
+        doubles[4] = Double.POSITIVE_INFINITY;
+        IntArrayList intList = new IntArrayList(ints);
+        LongArrayList longList = new LongArrayList(longs);
+        DoubleArrayList doubleList = new DoubleArrayList(doubles);
+        Arrays.sort(ints);
+        Arrays.sort(longs);
+        Arrays.sort(doubles);
+
+        sorter.sort(intList);
+        sorter.sort(longList);
+        sorter.sort(doubleList);
+
+        Assert.assertArrayEquals(ints, intList.toArray());
+        Assert.assertArrayEquals(longs, longList.toArray());
+        // сравнение по битам различает -0.0 и 0.0
+        Assert.assertArrayEquals(Arrays.stream(doubles).mapToLong(Double::doubleToLongBits).toArray(),
+                Arrays.stream(doubleList.toArray()).mapToLong(Double::doubleToLongBits).toArray());
+    }
+
+    @Test
+    public void sortSmallLists_shouldReuseScratch() {
+        for (int size = 0; size < 40; size++) {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values.add(random.nextInt(10));
+            }
+            SimpleList<Integer> list = new CustomArrayList<>(values);
+            values.sort(Comparator.naturalOrder());
+
+            sorter.sortByInt(list, Integer::intValue);
+
+            Assert.assertEquals(new CustomArrayList<>(values), list);
+        }
+    }
+}
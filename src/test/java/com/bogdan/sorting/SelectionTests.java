@@ -0,0 +1,119 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class SelectionTests {
+    private static final int LARGE_SIZE = 100_000;
+
+    private final Sorter sorter = new IntroSorter();
+
+    @Test
+    public void selectMedian_shouldMatchSortedList() {
+        Random random = new Random(7);
+        for (int size : new int[]{1, 2, 17, 1000, LARGE_SIZE}) {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values.add(random.nextInt(size));
+            }
+            List<Integer> sorted = new ArrayList<>(values);
+            sorted.sort(Comparator.naturalOrder());
+            for (int k : new int[]{0, size / 2, size - 1}) {
+                SimpleList<Integer> list = new CustomArrayList<>(values);
+                Integer selected = sorter.select(list, k, Comparator.naturalOrder());
+
+                Assert.assertEquals(sorted.get(k), selected);
+                Assert.assertEquals(selected, list.get(k));
+                for (int i = 0; i < size; i++) {
+                    int cmp = Integer.compare(list.get(i), selected);
+                    Assert.assertTrue(i < k ? cmp <= 0 : cmp >= 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void selectOnSortedAndEqualInputs_shouldFinish() {
+        int k = LARGE_SIZE / 3;
+        SimpleList<Integer> sorted = new CustomArrayList<>(List.of(sortedValues(LARGE_SIZE)));
+        Assert.assertEquals(Integer.valueOf(k), sorter.select(sorted, k, Comparator.naturalOrder()));
+
+        SimpleList<Integer> reversed = new CustomArrayList<>(List.of(reversedValues(LARGE_SIZE)));
+        Assert.assertEquals(Integer.valueOf(k), sorter.select(reversed, k, Comparator.naturalOrder()));
+
+        Integer[] equal = new Integer[LARGE_SIZE];
+        Arrays.fill(equal, 5);
+        SimpleList<Integer> equalList = new CustomArrayList<>(List.of(equal));
+        Assert.assertEquals(Integer.valueOf(5), sorter.select(equalList, k, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void partialSort_shouldSortOnlyPrefix() {
+        Random random = new Random(3);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            values.add(random.nextInt());
+        }
+        List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.reverseOrder());
+
+        for (int k : new int[]{0, 1, 100, LARGE_SIZE}) {
+            SimpleList<Integer> list = new CustomArrayList<>(values);
+            sorter.partialSort(list, k, Comparator.reverseOrder());
+            for (int i = 0; i < k; i++) {
+                Assert.assertEquals(sorted.get(i), list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void topK_shouldKeepSmallestInOrder() {
+        Random random = new Random(11);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            values.add(random.nextInt(1000));
+        }
+        List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.reverseOrder());
+
+        CustomArrayList<Integer> top = Sorter.topK(values, 100, Comparator.reverseOrder());
+        Assert.assertEquals(new CustomArrayList<>(sorted.subList(0, 100)), top);
+        Assert.assertEquals(new CustomArrayList<>(List.of(1, 2, 3)),
+                Sorter.topK(List.of(3, 1, 2), 10, Comparator.naturalOrder()));
+        Assert.assertTrue(Sorter.topK(values, 0, Comparator.naturalOrder()).isEmpty());
+    }
+
+    @Test
+    public void selectWithIncorrectIndex() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(1, 2, 3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> sorter.select(list, 3, Comparator.naturalOrder()));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> sorter.partialSort(list, 4, Comparator.naturalOrder()));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Sorter.topK(List.of(1), -1,
+                Comparator.<Integer>naturalOrder()));
+    }
+
+    private static Integer[] sortedValues(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static Integer[] reversedValues(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = size - 1 - i;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,82 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class SortEventTests {
+    private static final int SIZE = 1_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void everySorter_shouldRecordSortEvent() throws IOException {
+        List<Sorter> sorters = List.of(new QuickSorter(), new IntroSorter(), new TimSorter(), new ParallelQuickSorter());
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(SortEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            for (Sorter sorter : sorters) {
+                sorter.sort(randomList(), Comparator.<Integer>naturalOrder());
+            }
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assert.assertEquals(sorters.size(), events.size());
+        for (int i = 0; i < sorters.size(); i++) {
+            RecordedEvent event = events.get(i);
+            Assert.assertEquals(sorters.get(i).getClass().getName(), event.getClass("sorter").getName());
+            Assert.assertEquals(SIZE, event.getInt("size"));
+            Assert.assertNotNull(event.getClass("comparator"));
+        }
+    }
+
+    @Test
+    public void fastSorts_shouldStayBelowDefaultThreshold() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(SortEvent.NAME);
+            recording.start();
+            CustomArrayList<Integer> list = new CustomArrayList<>();
+            list.add(2);
+            list.add(1);
+            new IntroSorter().sort(list, Comparator.naturalOrder());
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    private CustomArrayList<Integer> randomList() {
+        Random random = new Random(9);
+        CustomArrayList<Integer> list = new CustomArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(random.nextInt());
+        }
+        return list;
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = folder.newFile("recording.jfr").toPath();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(SortEvent.NAME))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+}
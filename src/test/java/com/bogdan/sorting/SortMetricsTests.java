@@ -0,0 +1,126 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.metrics.Metrics;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SortMetricsTests {
+    private static final int SIZE = 10_000;
+
+    private final SortMetrics metrics = SortMetrics.get();
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(Metrics.ENABLED);
+        metrics.reset();
+    }
+
+    @Test
+    public void introSort_shouldCountComparisonsSwapsAndDepth() {
+        AtomicLong compared = new AtomicLong();
+        Comparator<Integer> comparator = (a, b) -> {
+            compared.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+
+        new IntroSorter().sort(randomList(), comparator);
+
+        Assert.assertEquals(1, metrics.getSorts());
+        Assert.assertEquals(compared.get(), metrics.getComparisons());
+        Assert.assertEquals(compared.get(), metrics.getLastComparisons());
+        Assert.assertTrue(metrics.getSwaps() > 0);
+        int depth = metrics.getLastDepth();
+        Assert.assertTrue(depth >= 1 && depth <= 2 * 14);
+    }
+
+    @Test
+    public void quickSort_shouldTrackRecursionDepthOfSortedInput() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            list.add(i);
+        }
+
+        new QuickSorter().sort(list, Comparator.naturalOrder());
+
+        // последний элемент как опорный на отсортированных данных дает глубину n - 1
+        Assert.assertEquals(499, metrics.getLastDepth());
+        Assert.assertEquals(499L * 500 / 2, metrics.getLastComparisons());
+    }
+
+    @Test
+    public void timSort_shouldCountComparisons() {
+        AtomicLong compared = new AtomicLong();
+        Comparator<Integer> comparator = (a, b) -> {
+            compared.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+
+        new TimSorter().sort(randomList(), comparator);
+
+        Assert.assertEquals(1, metrics.getSorts());
+        Assert.assertEquals(compared.get(), metrics.getLastComparisons());
+        Assert.assertEquals(0, metrics.getLastSwaps());
+    }
+
+    @Test
+    public void parallelQuickSort_shouldMergeProbesOfAllTasks() {
+        AtomicLong compared = new AtomicLong();
+        Comparator<Integer> comparator = (a, b) -> {
+            compared.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new ParallelQuickSorter(pool, 64).sort(randomList(), comparator);
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertEquals(1, metrics.getSorts());
+        Assert.assertEquals(compared.get(), metrics.getComparisons());
+        Assert.assertEquals(compared.get(), metrics.getLastComparisons());
+        Assert.assertTrue(metrics.getSwaps() > 0);
+        // над последовательной досортировкой есть хотя бы один уровень параллельного разбиения
+        int depth = metrics.getLastDepth();
+        Assert.assertTrue(depth >= 2 && depth <= 2 * 14 + 1);
+    }
+
+    @Test
+    public void sorts_shouldAccumulateAcrossCalls() {
+        IntroSorter sorter = new IntroSorter();
+        sorter.sort(randomList(), Comparator.naturalOrder());
+        long first = metrics.getComparisons();
+        sorter.sort(randomList(), Comparator.naturalOrder());
+
+        Assert.assertEquals(2, metrics.getSorts());
+        Assert.assertEquals(first + metrics.getLastComparisons(), metrics.getComparisons());
+        Assert.assertTrue(metrics.getMaxDepth() >= metrics.getLastDepth());
+    }
+
+    @Test
+    public void mbean_shouldBeRegistered() throws Exception {
+        new IntroSorter().sort(randomList(), Comparator.naturalOrder());
+        ObjectName name = new ObjectName(Metrics.DOMAIN, "type", "SortMetrics");
+
+        Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Sorts"));
+    }
+
+    private CustomArrayList<Integer> randomList() {
+        Random random = new Random(5);
+        CustomArrayList<Integer> list = new CustomArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(random.nextInt());
+        }
+        return list;
+    }
+}
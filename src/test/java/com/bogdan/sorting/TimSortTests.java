@@ -0,0 +1,115 @@
+package com.bogdan.sorting;
+
+import com.bogdan.list.CustomArrayList;
+import com.bogdan.list.SimpleList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimSortTests {
+    private TimSorter sorter;
+
+    @Before
+    public void init() {
+        this.sorter = new TimSorter();
+    }
+
+    @Test
+    public void timSortIntegerTest() {
+        SimpleList<Integer> list = new CustomArrayList<>(List.of(18, -2, 99, -24, 0, 3));
+        sorter.sort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(-24, -2, 0, 3, 18, 99)), list);
+    }
+
+    @Test
+    public void timSortRandomInputOfDifferentSizes_shouldMatchJdkSort() {
+        Random random = new Random(1);
+        for (int size = 0; size < 5000; size += 173) {
+            List<Integer> source = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                source.add(random.nextInt(size / 4 + 1));
+            }
+            assertSortedLikeJdk(source);
+        }
+    }
+
+    @Test
+    public void timSortIsStable_shouldKeepOrderOfEqualElements() {
+        Random random = new Random(2);
+        List<Person> source = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            source.add(new Person(random.nextInt(50), i));
+        }
+        SimpleList<Person> list = new CustomArrayList<>(source);
+        List<Person> expected = new ArrayList<>(source);
+        expected.sort(Comparator.comparingInt(Person::age));
+
+        sorter.sort(list, Comparator.comparingInt(Person::age));
+
+        Assert.assertEquals(new CustomArrayList<>(expected), list);
+    }
+
+    @Test
+    public void timSortMultiKeyInPasses() {
+        SimpleList<Person> list = new CustomArrayList<>(List.of(
+                new Person(30, 3), new Person(20, 1), new Person(30, 1), new Person(20, 2)));
+        sorter.sort(list, Comparator.comparingInt(Person::id));
+        sorter.sort(list, Comparator.comparingInt(Person::age));
+
+        Assert.assertEquals(new CustomArrayList<>(List.of(
+                new Person(20, 1), new Person(20, 2), new Person(30, 1), new Person(30, 3))), list);
+    }
+
+    @Test
+    public void timSortNearlySortedInput_shouldUseLinearNumberOfComparisons() {
+        final int size = 100_000;
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        source.add(size / 2, -1);
+        AtomicLong comparisons = new AtomicLong();
+        SimpleList<Integer> list = new CustomArrayList<>(source);
+
+        sorter.sort(list, (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        });
+
+        Assert.assertEquals(Integer.valueOf(-1), list.get(0));
+        Assert.assertTrue(comparisons.get() < 2L * size);
+    }
+
+    @Test
+    public void timSortDescendingRunsAndReusedBuffer() {
+        for (int round = 0; round < 3; round++) {
+            List<Integer> source = new ArrayList<>();
+            for (int run = 0; run < 50; run++) {
+                for (int i = 1000; i > 0; i--) {
+                    source.add(i * (run + round + 1));
+                }
+            }
+            assertSortedLikeJdk(source);
+        }
+    }
+
+    private void assertSortedLikeJdk(List<Integer> source) {
+        SimpleList<Integer> list = new CustomArrayList<>(source);
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(Comparator.naturalOrder());
+
+        sorter.sort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(new CustomArrayList<>(expected), list);
+    }
+
+    private record Person(int age, int id) {
+    }
+}